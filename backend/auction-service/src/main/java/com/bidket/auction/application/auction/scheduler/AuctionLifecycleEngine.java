@@ -0,0 +1,166 @@
+package com.bidket.auction.application.auction.scheduler;
+
+import com.bidket.auction.application.auction.service.AuctionLifecycleService;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.ScheduledAuction;
+import com.bidket.auction.domain.auction.model.TransitionedAuction;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.infrastructure.redis.AuctionLifecycleQueue;
+import com.bidket.auction.infrastructure.redis.AuctionTransition;
+import com.bidket.auction.infrastructure.redis.ShardLeaseManager;
+import com.bidket.auction.infrastructure.redis.ShardOwnershipChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 예약 큐(AuctionLifecycleQueue) 기반 경매 시작/종료 엔진.
+ * tick 주기(기본 100ms)마다 이 레플리카가 보유한 샤드의 만기된 경매를 배치로 선점해 조건부 일괄 UPDATE 로 전이시킨다.
+ * 상태/시각 조건과 version 증가가 UPDATE 안에서 처리되므로 경매별 분산 락은 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionLifecycleEngine {
+
+    private static final int MAX_BATCHES_PER_TICK = 10;
+
+    private final AuctionLifecycleQueue lifecycleQueue;
+    private final AuctionLifecycleService lifecycleService;
+    private final AuctionRepository auctionRepository;
+    private final ShardLeaseManager shardLeaseManager;
+
+    @Value("${bidket.auction.lifecycle.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${bidket.auction.lifecycle.claim-lease-ms:30000}")
+    private long claimLeaseMillis;
+
+    @Scheduled(fixedDelayString = "${bidket.auction.lifecycle.tick-ms:100}")
+    public void tick() {
+        for (Integer shard : shardLeaseManager.ownedShards()) {
+            fireDue(AuctionTransition.START, shard);
+            fireDue(AuctionTransition.END, shard);
+        }
+    }
+
+    /**
+     * 리더가 되면 DB 의 PENDING/ACTIVE 경매로 예약 큐를 복구한다. ZADD 이므로 이미 있는 예약은 같은 시각으로 덮인다.
+     * 엔티티를 모두 올리지 않도록 id 와 시각만 batch-size 건씩 keyset 으로 읽어 배치마다 예약한다.
+     */
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        if (event.acquiredLeadership()) {
+            recover();
+        }
+    }
+
+    public void recover() {
+        try {
+            int pending = recover(AuctionStatus.PENDING, AuctionTransition.START, ScheduledAuction::startTime);
+            int active = recover(AuctionStatus.ACTIVE, AuctionTransition.END, ScheduledAuction::endTime);
+
+            log.info("경매 라이프사이클 예약 복구: 시작 {} 건, 종료 {} 건", pending, active);
+        } catch (Exception e) {
+            log.error("경매 라이프사이클 예약 복구 실패", e);
+        }
+    }
+
+    /**
+     * 선점한 배치를 일괄 UPDATE 한 번으로 전이한다. 배치가 가득 차 있으면 tick 당 최대 MAX_BATCHES_PER_TICK 번까지 이어서 처리한다.
+     */
+    private void fireDue(AuctionTransition transition, int shard) {
+        for (int batch = 0; batch < MAX_BATCHES_PER_TICK; batch++) {
+            long now = System.currentTimeMillis();
+            long retryAt = now + claimLeaseMillis;
+
+            List<UUID> due;
+            try {
+                due = lifecycleQueue.claimDue(transition, shard, now, batchSize, retryAt);
+            } catch (Exception e) {
+                log.warn("경매 {} 예약 조회 실패: {}", transition, e.getMessage());
+                return;
+            }
+
+            if (due.isEmpty()) {
+                return;
+            }
+
+            fire(transition, due, retryAt);
+
+            if (due.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void fire(AuctionTransition transition, List<UUID> auctionIds, long claimedScore) {
+        List<TransitionedAuction> transitioned;
+        try {
+            transitioned = transition == AuctionTransition.START
+                    ? lifecycleService.startAuctions(auctionIds)
+                    : lifecycleService.endAuctions(auctionIds);
+        } catch (Exception e) {
+            // 선점 만료 후 재시도된다
+            log.error("경매 {} 일괄 전이 실패: {} 건", transition, auctionIds.size(), e);
+            return;
+        }
+
+        // 전이된 경매의 예약은 커밋 후 AuctionScheduleEventListener 가 정리한다
+        Set<UUID> transitionedIds = transitioned.stream()
+                .map(TransitionedAuction::id)
+                .collect(Collectors.toSet());
+
+        for (UUID auctionId : auctionIds) {
+            if (!transitionedIds.contains(auctionId)) {
+                settleUntransitioned(transition, auctionId, claimedScore);
+            }
+        }
+    }
+
+    /**
+     * 연장으로 예정 시각이 미뤄졌으면 다시 예약하고, 이미 다른 상태로 바뀐 경매는 큐에서 제거한다.
+     * 예정 시각이 지났는데도 전이되지 않았다면(행 잠금 경합 등) 선점 상태로 두어 재시도되게 한다.
+     */
+    private void settleUntransitioned(AuctionTransition transition, UUID auctionId, long claimedScore) {
+        try {
+            Optional<LocalDateTime> dueAt = lifecycleService.nextDueTime(transition, auctionId);
+            if (dueAt.isEmpty()) {
+                lifecycleQueue.ack(transition, auctionId, claimedScore);
+            } else if (dueAt.get().isAfter(LocalDateTime.now())) {
+                lifecycleQueue.schedule(transition, auctionId, dueAt.get());
+            }
+        } catch (Exception e) {
+            log.warn("경매 {} 예약 정리 실패: {} - {}", transition, auctionId, e.getMessage());
+        }
+    }
+
+    private int recover(AuctionStatus status, AuctionTransition transition, Function<ScheduledAuction, LocalDateTime> dueAt) {
+        int total = 0;
+        UUID afterId = null;
+        while (true) {
+            List<ScheduledAuction> schedules = auctionRepository.findSchedules(status, afterId, batchSize);
+            if (schedules.isEmpty()) {
+                return total;
+            }
+            lifecycleQueue.scheduleAll(transition, schedules.stream()
+                    .collect(Collectors.toMap(ScheduledAuction::id, dueAt)));
+            total += schedules.size();
+            if (schedules.size() < batchSize) {
+                return total;
+            }
+            afterId = schedules.get(schedules.size() - 1).id();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.bidket.auction.application.auction.scheduler;
+
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.infrastructure.redis.AuctionLifecycleQueue;
+import com.bidket.auction.infrastructure.redis.AuctionTransition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 경매 상태/기간 변경을 예약 큐에 반영한다. (연장 시 종료 예약 재설정 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionScheduleEventListener {
+
+    private final AuctionLifecycleQueue lifecycleQueue;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(AuctionScheduleChangedEvent event) {
+        try {
+            switch (event.status()) {
+                case PENDING -> {
+                    lifecycleQueue.schedule(AuctionTransition.START, event.auctionId(), event.startTime());
+                    lifecycleQueue.unschedule(AuctionTransition.END, event.auctionId());
+                }
+                case ACTIVE -> {
+                    lifecycleQueue.schedule(AuctionTransition.END, event.auctionId(), event.endTime());
+                    lifecycleQueue.unschedule(AuctionTransition.START, event.auctionId());
+                }
+                default -> {
+                    lifecycleQueue.unschedule(AuctionTransition.START, event.auctionId());
+                    lifecycleQueue.unschedule(AuctionTransition.END, event.auctionId());
+                }
+            }
+        } catch (Exception e) {
+            // 반영에 실패해도 AuctionScheduler 의 정합성 점검이 예정 시각이 지난 경매를 다시 예약한다
+            log.warn("경매 예약 갱신 실패: {} - {}", event.auctionId(), e.getMessage());
+        }
+    }
+}
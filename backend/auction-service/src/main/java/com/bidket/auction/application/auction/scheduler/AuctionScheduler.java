@@ -1,90 +1,81 @@
 package com.bidket.auction.application.auction.scheduler;
 
-import com.bidket.auction.domain.auction.model.Auction;
-import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.application.auction.service.AuctionLifecycleService;
+import com.bidket.auction.domain.auction.model.TransitionedAuction;
+import com.bidket.auction.infrastructure.redis.ShardLeaseManager;
 import com.bidket.auction.infrastructure.redis.ViewCountCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionScheduler {
 
-    private final AuctionRepository auctionRepository;
+    private final AuctionLifecycleService lifecycleService;
     private final ViewCountCacheService viewCountCacheService;
-
-    @Scheduled(fixedDelay = 60000)
-    @Transactional
-    public void startPendingAuctions() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        List<Auction> pendingAuctions = auctionRepository
-                .findPendingAuctionsStartingBefore(now);
-
-        if (pendingAuctions.isEmpty()) {
+    private final ShardLeaseManager shardLeaseManager;
+
+    @Value("${bidket.auction.lifecycle.batch-size:1000}")
+    private int reconcileBatchSize;
+
+    /**
+     * 예약 큐 유실(Redis 장애, 이벤트 반영 실패)에 대비한 정합성 점검.
+     * 예정 시각이 지났는데 아직 전이되지 않은 경매를 id 순 keyset 배치의 일괄 UPDATE 로 직접 전이한다.
+     * 배치마다 별도 트랜잭션으로 커밋되므로 바깥 트랜잭션을 두지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${bidket.auction.lifecycle.reconcile-ms:300000}")
+    public void reconcileLifecycle() {
+        if (!shardLeaseManager.isLeader()) {
             return;
         }
 
-        log.info("경매 자동 시작 실행: {} 건", pendingAuctions.size());
-
-        for (Auction auction : pendingAuctions) {
-            try {
-                auction.start();
-                auctionRepository.save(auction);
-                
-                log.info("경매 시작: {} ({})", auction.getId(), auction.getAuctionTitle());
-                
-            } catch (Exception e) {
-                log.error("경매 시작 실패: {}", auction.getId(), e);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int started = drain((afterId, limit) -> lifecycleService.startDueAuctions(now, afterId, limit));
+            int ended = drain((afterId, limit) -> lifecycleService.endDueAuctions(now, afterId, limit));
+
+            if (started > 0 || ended > 0) {
+                log.warn("예약 누락 경매 일괄 전이: 시작 {} 건, 종료 {} 건", started, ended);
             }
+        } catch (Exception e) {
+            log.error("경매 라이프사이클 정합성 점검 중 오류 발생", e);
         }
-
-        log.info("경매 자동 시작 완료: {} 건", pendingAuctions.size());
     }
 
-    @Scheduled(fixedDelay = 30000)
-    @Transactional
-    public void endActiveAuctions() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        List<Auction> activeAuctions = auctionRepository
-                .findActiveAuctionsEndingBefore(now);
-
-        if (activeAuctions.isEmpty()) {
-            return;
-        }
-
-        log.info("경매 자동 종료 실행: {} 건", activeAuctions.size());
-
-        for (Auction auction : activeAuctions) {
-            try {
-                boolean hasBids = auction.getStats().getTotalBidsCount() > 0;
-                auction.end(hasBids);
-                auctionRepository.save(auction);
-                
-                log.info("경매 종료: {} ({}) - 상태: {}", 
-                        auction.getId(), 
-                        auction.getAuctionTitle(), 
-                        auction.getStatus());
-                
-            } catch (Exception e) {
-                log.error("경매 종료 실패: {}", auction.getId(), e);
+    private int drain(BiFunction<UUID, Integer, List<TransitionedAuction>> batch) {
+        int total = 0;
+        UUID afterId = null;
+        while (true) {
+            List<TransitionedAuction> transitioned = batch.apply(afterId, reconcileBatchSize);
+            total += transitioned.size();
+            if (transitioned.size() < reconcileBatchSize) {
+                return total;
             }
+            // Postgres uuid 비교 순서와 UUID 문자열 사전순이 같다
+            afterId = transitioned.stream()
+                    .map(TransitionedAuction::id)
+                    .max(Comparator.comparing(UUID::toString))
+                    .orElseThrow();
         }
-
-        log.info("경매 자동 종료 완료: {} 건", activeAuctions.size());
     }
 
+    // 청크별 UPDATE 가 각자 트랜잭션으로 커밋되도록 바깥 트랜잭션을 두지 않는다
     @Scheduled(fixedDelay = 300000)
-    @Transactional
     public void syncViewCounts() {
+        if (!shardLeaseManager.isLeader()) {
+            return;
+        }
+
         log.info("조회수 캐시 동기화 시작");
 
         try {
@@ -0,0 +1,51 @@
+package com.bidket.auction.application.auction.service;
+
+import com.bidket.auction.domain.auction.event.AuctionPriceChangedEvent;
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * 커밋된 상태/기간 변경과 현재가 변경마다 auctions 캐시(L2 + 각 노드의 L1)를 무효화한다.
+ * 일괄 UPDATE 로 전이된 경매와 입찰로 바뀐 현재가/입찰 수는 @CacheEvict 를 거치지 않으므로 이 리스너가 유일한 무효화 경로다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionCacheEvictionListener {
+
+    private static final String AUCTION_CACHE = "auctions";
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(AuctionScheduleChangedEvent event) {
+        evict(event.auctionId());
+    }
+
+    // 캐시된 응답이 현재가, 입찰 수, 최고가 입찰을 담고 있으므로 입찰이 커밋될 때마다 비운다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        evict(event.auctionId());
+    }
+
+    private void evict(UUID auctionId) {
+        Cache cache = cacheManager.getCache(AUCTION_CACHE);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evict(auctionId);
+        } catch (Exception e) {
+            // 무효화에 실패해도 캐시는 TTL 안에 만료된다
+            log.warn("경매 캐시 무효화 실패: {} - {}", auctionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bidket.auction.application.auction.service;
+
+import com.bidket.auction.application.auction.dto.response.AuctionResponse;
+import com.bidket.auction.infrastructure.redis.ViewCountCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 경매 상세 조회 경로.
+ * 캐시된 스냅샷(AuctionService.getAuction)에 조회수 같은 실시간 카운터를 조회 시점에 합친다.
+ * 현재가와 입찰 수는 입찰이 커밋될 때 캐시를 무효화해 맞춘다(AuctionCacheEvictionListener).
+ * 캐시 적중 여부와 관계없이 매 요청마다 조회수가 집계된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionDetailService {
+
+    private final AuctionService auctionService;
+    private final ViewCountCacheService viewCountCacheService;
+
+    public AuctionResponse getAuctionDetail(UUID auctionId) {
+        AuctionResponse snapshot = auctionService.getAuction(auctionId);
+
+        viewCountCacheService.incrementViewCountAsync(auctionId);
+
+        Integer viewCount = viewCountCacheService.getViewCount(auctionId, snapshot.viewCount());
+        return snapshot.withViewCount(viewCount);
+    }
+}
@@ -0,0 +1,86 @@
+package com.bidket.auction.application.auction.service;
+
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.TransitionedAuction;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.infrastructure.redis.AuctionTransition;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 경매 시작/종료 전이를 조건부 일괄 UPDATE 한 번으로 수행한다.
+ * 상태와 예정 시각 조건을 UPDATE 가 직접 검사하므로 이미 전이되었거나 연장된 경매는 자연히 제외되며,
+ * 전이된 행마다 AuctionScheduleChangedEvent 를 발행해 커밋 후 예약 큐가 갱신되도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionLifecycleService {
+
+    private final AuctionRepository auctionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<TransitionedAuction> startAuctions(Collection<UUID> auctionIds) {
+        List<TransitionedAuction> started = auctionRepository.startAuctions(auctionIds, LocalDateTime.now());
+        publish(started);
+        log.info("경매 일괄 시작: {} / {} 건", started.size(), auctionIds.size());
+        return started;
+    }
+
+    @Transactional
+    public List<TransitionedAuction> endAuctions(Collection<UUID> auctionIds) {
+        List<TransitionedAuction> ended = auctionRepository.endAuctions(auctionIds, LocalDateTime.now());
+        publish(ended);
+        log.info("경매 일괄 종료: {} / {} 건", ended.size(), auctionIds.size());
+        return ended;
+    }
+
+    /**
+     * 시작 시각이 지난 PENDING 경매를 afterId 이후부터 최대 limit 건 시작한다. 배치마다 별도 트랜잭션이다.
+     */
+    @Transactional
+    public List<TransitionedAuction> startDueAuctions(LocalDateTime now, UUID afterId, int limit) {
+        List<TransitionedAuction> started = auctionRepository.startDueAuctions(now, afterId, limit);
+        publish(started);
+        return started;
+    }
+
+    @Transactional
+    public List<TransitionedAuction> endDueAuctions(LocalDateTime now, UUID afterId, int limit) {
+        List<TransitionedAuction> ended = auctionRepository.endDueAuctions(now, afterId, limit);
+        publish(ended);
+        return ended;
+    }
+
+    /**
+     * 일괄 전이에서 빠진 경매의 다음 예약 시각. 아직 전이 대상 상태이면 현재 예정 시각을, 아니면 빈 값을 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> nextDueTime(AuctionTransition transition, UUID auctionId) {
+        return auctionRepository.findById(auctionId)
+                .filter(auction -> auction.getStatus() == (transition == AuctionTransition.START
+                        ? AuctionStatus.PENDING
+                        : AuctionStatus.ACTIVE))
+                .map(auction -> transition == AuctionTransition.START
+                        ? auction.getPeriod().getStartTime()
+                        : auction.getPeriod().getEndTime());
+    }
+
+    private void publish(List<TransitionedAuction> transitioned) {
+        for (TransitionedAuction auction : transitioned) {
+            eventPublisher.publishEvent(new AuctionScheduleChangedEvent(
+                    auction.id(), auction.status(), auction.startTime(), auction.endTime()));
+        }
+    }
+}
@@ -7,7 +7,6 @@ import com.bidket.auction.domain.auction.model.Auction;
 import com.bidket.auction.domain.auction.model.AuctionStatus;
 import com.bidket.auction.domain.auction.repository.AuctionRepository;
 import com.bidket.auction.domain.auction.service.AuctionValidator;
-import com.bidket.auction.infrastructure.redis.ViewCountCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -27,7 +26,6 @@ public class AuctionService {
 
     private final AuctionRepository auctionRepository;
     private final AuctionValidator auctionValidator;
-    private final ViewCountCacheService viewCountCacheService;
 
     @Transactional
     @CacheEvict(value = "auctions", allEntries = true)
@@ -44,6 +42,9 @@ public class AuctionService {
         return AuctionResponse.from(savedAuction);
     }
 
+    /**
+     * 캐시되는 정적 스냅샷. 조회수 집계/반영은 AuctionDetailService 가 조회 시점에 처리한다.
+     */
     @Cacheable(value = "auctions", key = "#auctionId")
     public AuctionResponse getAuction(UUID auctionId) {
         log.info("경매 조회: {}", auctionId);
@@ -51,12 +52,7 @@ public class AuctionService {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다: " + auctionId));
 
-        viewCountCacheService.incrementViewCountAsync(auctionId);
-
-        AuctionResponse response = AuctionResponse.from(auction);
-        Integer cachedViewCount = viewCountCacheService.getViewCount(auctionId, response.viewCount());
-
-        return response.withViewCount(cachedViewCount);
+        return AuctionResponse.from(auction);
     }
 
     public List<AuctionResponse> getAuctionsBySeller(UUID sellerId) {
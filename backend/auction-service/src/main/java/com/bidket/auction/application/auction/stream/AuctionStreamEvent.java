@@ -0,0 +1,49 @@
+package com.bidket.auction.application.auction.stream;
+
+import com.bidket.auction.domain.auction.event.AuctionPriceChangedEvent;
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 실시간 경매 스트림으로 내려가는 이벤트. 노드 간 전파(Redis pub/sub)와 SSE 프레임에 같은 형식을 쓴다.
+ */
+public record AuctionStreamEvent(
+        UUID auctionId,
+        AuctionStreamEventType type,
+        Long currentPrice,
+        UUID highestBidderId,
+        Integer totalBidsCount,
+        AuctionStatus status,
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime endTime
+) {
+    public static AuctionStreamEvent from(AuctionPriceChangedEvent event) {
+        return new AuctionStreamEvent(
+                event.auctionId(),
+                AuctionStreamEventType.BID,
+                event.currentPrice(),
+                event.highestBidderId(),
+                event.totalBidsCount(),
+                null,
+                null
+        );
+    }
+
+    public static AuctionStreamEvent from(AuctionScheduleChangedEvent event) {
+        boolean open = event.status() == AuctionStatus.PENDING || event.status() == AuctionStatus.ACTIVE;
+        return new AuctionStreamEvent(
+                event.auctionId(),
+                open ? AuctionStreamEventType.SCHEDULE : AuctionStreamEventType.ENDED,
+                null,
+                null,
+                null,
+                event.status(),
+                event.endTime()
+        );
+    }
+}
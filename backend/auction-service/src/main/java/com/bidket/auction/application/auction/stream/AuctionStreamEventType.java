@@ -0,0 +1,20 @@
+package com.bidket.auction.application.auction.stream;
+
+public enum AuctionStreamEventType {
+
+    BID("현재가/최고 입찰자 변경"),
+
+    SCHEDULE("시작, 연장 등 상태/종료 시각 변경"),
+
+    ENDED("경매 종료 또는 취소");
+
+    private final String description;
+
+    AuctionStreamEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,217 @@
+package com.bidket.auction.application.auction.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 이 노드에 연결된 경매별 SSE 구독자 레지스트리.
+ * 이벤트는 경매/유형별 최신 값만 남기고 coalesce-ms 주기로 한 프레임에 묶어 보내므로,
+ * 입찰이 몰려도 구독자마다 주기당 최대 한 프레임만 받는다. 프레임은 경매당 한 번만 직렬화한다.
+ * SseEmitter.send 는 느린 클라이언트에서 블로킹되므로 전송은 전용 스레드 풀에서 하고,
+ * send-timeout-ms 안에 끝나지 않은 구독자는 끊어 공용 스케줄러 스레드가 묶이지 않게 한다.
+ */
+@Slf4j
+@Component
+public class AuctionStreamHub {
+
+    private static final String EVENT_NAME = "auction";
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutMillis;
+    private final ExecutorService sender;
+
+    private final ConcurrentMap<UUID, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Map<AuctionStreamEventType, AuctionStreamEvent>> pending = new ConcurrentHashMap<>();
+
+    public AuctionStreamHub(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${bidket.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                            @Value("${bidket.stream.sender-threads:8}") int senderThreads,
+                            @Value("${bidket.stream.send-timeout-ms:2000}") long sendTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.sender = Executors.newFixedThreadPool(senderThreads, new SenderThreadFactory());
+        Gauge.builder("bidket.stream.subscribers", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("이 노드의 경매 스트림 구독자 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID auctionId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(auctionId, emitter);
+        return emitter;
+    }
+
+    void register(UUID auctionId, SseEmitter emitter) {
+        subscribers.computeIfAbsent(auctionId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> unsubscribe(auctionId, emitter));
+        emitter.onTimeout(() -> unsubscribe(auctionId, emitter));
+        emitter.onError(e -> unsubscribe(auctionId, emitter));
+        log.debug("경매 스트림 구독: {}", auctionId);
+    }
+
+    /**
+     * 구독자가 있는 경매의 이벤트만 보류 목록에 합친다. 같은 유형은 마지막 값이 앞선 값을 덮는다.
+     */
+    public void dispatch(AuctionStreamEvent event) {
+        if (!subscribers.containsKey(event.auctionId())) {
+            return;
+        }
+        pending.compute(event.auctionId(), (id, events) -> {
+            Map<AuctionStreamEventType, AuctionStreamEvent> merged =
+                    events != null ? events : new EnumMap<>(AuctionStreamEventType.class);
+            merged.put(event.type(), event);
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${bidket.stream.coalesce-ms:200}")
+    public void flush() {
+        List<Delivery> deliveries = new ArrayList<>();
+        for (UUID auctionId : pending.keySet()) {
+            Map<AuctionStreamEventType, AuctionStreamEvent> events = pending.remove(auctionId);
+            Set<SseEmitter> targets = subscribers.get(auctionId);
+            if (events == null || targets == null || targets.isEmpty()) {
+                continue;
+            }
+
+            String frame;
+            try {
+                frame = objectMapper.writeValueAsString(new ArrayList<>(events.values()));
+            } catch (JsonProcessingException e) {
+                log.error("경매 스트림 프레임 직렬화 실패: {}", auctionId, e);
+                continue;
+            }
+
+            for (SseEmitter emitter : targets) {
+                deliveries.add(submit(auctionId, emitter,
+                        () -> SseEmitter.event().name(EVENT_NAME).data(frame, MediaType.APPLICATION_JSON)));
+            }
+        }
+        await(deliveries);
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 구독자를 정리한다
+    @Scheduled(fixedDelayString = "${bidket.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        List<Delivery> deliveries = new ArrayList<>();
+        subscribers.forEach((auctionId, targets) -> {
+            for (SseEmitter emitter : targets) {
+                deliveries.add(submit(auctionId, emitter, () -> SseEmitter.event().comment("ping")));
+            }
+        });
+        await(deliveries);
+    }
+
+    public int subscriberCount(UUID auctionId) {
+        Set<SseEmitter> targets = subscribers.get(auctionId);
+        return targets != null ? targets.size() : 0;
+    }
+
+    private Delivery submit(UUID auctionId, SseEmitter emitter, Supplier<SseEmitter.SseEventBuilder> event) {
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> result = sender.submit(() -> {
+            started.set(true);
+            send(auctionId, emitter, event.get());
+        });
+        return new Delivery(auctionId, emitter, started, result);
+    }
+
+    /**
+     * 이번 주기의 전송이 send-timeout-ms 안에 끝나길 기다린다. 시간 안에 끝나지 않은 전송은 중단하고,
+     * 이미 전송 중이던 구독자는 제거하고 연결을 닫는다. 풀이 밀려 시작하지 못한 전송은 이번 주기 프레임만 건너뛴다.
+     */
+    private void await(List<Delivery> deliveries) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        for (Delivery delivery : deliveries) {
+            try {
+                delivery.result().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                delivery.result().cancel(true);
+                if (delivery.started().get()) {
+                    log.debug("경매 스트림 전송 시간 초과, 구독 해제: {}", delivery.auctionId());
+                    unsubscribe(delivery.auctionId(), delivery.emitter());
+                    delivery.emitter().completeWithError(e);
+                }
+            } catch (ExecutionException e) {
+                log.debug("경매 스트림 전송 실패, 구독 해제: {} - {}", delivery.auctionId(), e.getCause().getMessage());
+                unsubscribe(delivery.auctionId(), delivery.emitter());
+                delivery.emitter().completeWithError(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send(UUID auctionId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("경매 스트림 전송 실패, 구독 해제: {} - {}", auctionId, e.getMessage());
+            unsubscribe(auctionId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(UUID auctionId, SseEmitter emitter) {
+        subscribers.computeIfPresent(auctionId, (id, targets) -> {
+            targets.remove(emitter);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<SseEmitter> all = subscribers.values().stream().flatMap(Set::stream).toList();
+        subscribers.clear();
+        all.forEach(SseEmitter::complete);
+        sender.shutdownNow();
+    }
+
+    private record Delivery(UUID auctionId, SseEmitter emitter, AtomicBoolean started, Future<?> result) {
+    }
+
+    private static class SenderThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "auction-stream-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
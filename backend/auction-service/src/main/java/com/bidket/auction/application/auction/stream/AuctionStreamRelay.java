@@ -0,0 +1,66 @@
+package com.bidket.auction.application.auction.stream;
+
+import com.bidket.auction.domain.auction.event.AuctionPriceChangedEvent;
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 경매 도메인 이벤트를 Redis pub/sub 으로 모든 노드에 전파하고, 수신한 이벤트를 로컬 AuctionStreamHub 에 넘긴다.
+ * 이벤트를 만든 노드도 채널을 통해 받으므로 구독자가 어느 노드에 붙어 있든 같은 경로로 전달된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionStreamRelay implements MessageListener {
+
+    private static final String CHANNEL = "auction:stream";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final AuctionStreamHub streamHub;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        publish(AuctionStreamEvent.from(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(AuctionScheduleChangedEvent event) {
+        publish(AuctionStreamEvent.from(event));
+    }
+
+    private void publish(AuctionStreamEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // 스트림은 best-effort 이며 클라이언트는 재연결 시 스냅샷 API 로 상태를 맞춘다
+            log.warn("경매 스트림 이벤트 전파 실패: {} - {}", event.auctionId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            streamHub.dispatch(objectMapper.readValue(message.getBody(), AuctionStreamEvent.class));
+        } catch (Exception e) {
+            log.warn("경매 스트림 이벤트 수신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bidket.auction.application.bid.dto.response;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 입찰 이력 keyset 커서. 마지막으로 내려준 입찰의 (createdAt, id) 를 URL-safe Base64 토큰으로 주고받는다.
+ */
+public record BidCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BidCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(DELIMITER);
+            return new BidCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    UUID.fromString(raw.substring(delimiter + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.bidket.auction.application.bid.dto.response;
+
+import java.util.List;
+
+public record BidPageResponse(
+        List<BidResponse> bids,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static BidPageResponse of(List<BidResponse> bids, BidCursor nextCursor) {
+        return new BidPageResponse(bids, nextCursor != null ? nextCursor.encode() : null, nextCursor != null);
+    }
+}
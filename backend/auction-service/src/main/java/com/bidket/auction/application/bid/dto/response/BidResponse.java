@@ -2,6 +2,7 @@ package com.bidket.auction.application.bid.dto.response;
 
 import com.bidket.auction.domain.bid.model.Bid;
 import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.model.BidSummary;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.time.LocalDateTime;
@@ -21,13 +22,34 @@ public record BidResponse(
         LocalDateTime createdAt
 ) {
     public static BidResponse from(Bid bid) {
+        return from(bid, null);
+    }
+
+    public static BidResponse from(BidSummary summary, UUID highestBidId) {
+        return new BidResponse(
+                summary.id(),
+                summary.auctionId(),
+                summary.bidderId(),
+                summary.amount(),
+                summary.isHighestAgainst(highestBidId),
+                summary.resolveStatus(highestBidId),
+                summary.rank(),
+                summary.orderId(),
+                summary.createdAt()
+        );
+    }
+
+    /**
+     * highestBidId 는 경매의 최고가 입찰 포인터이며, 최고가 여부와 OUTBID 상태는 이 값으로 판단한다.
+     */
+    public static BidResponse from(Bid bid, UUID highestBidId) {
         return new BidResponse(
                 bid.getId(),
                 bid.getAuctionId(),
                 bid.getBidderId(),
                 bid.getAmount(),
-                bid.isHighest(),
-                bid.getStatus(),
+                bid.isHighestAgainst(highestBidId),
+                bid.resolveStatus(highestBidId),
                 bid.getRank(),
                 bid.getOrderId(),
                 bid.getCreatedAt()
@@ -0,0 +1,29 @@
+package com.bidket.auction.application.bid.dto.response;
+
+import com.bidket.auction.domain.bid.model.Bid;
+import com.bidket.auction.domain.bid.model.BidStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 자동 입찰 결과. bids 는 이번 요청으로 원장에 기록된 입찰이며, 이미 최고 입찰자였다면 비어 있다.
+ */
+public record ProxyBidResponse(
+        UUID auctionId,
+        Long maxAmount,
+        boolean leading,
+        List<BidResponse> bids
+) {
+    public static ProxyBidResponse of(UUID auctionId, UUID bidderId, Long maxAmount, List<Bid> bids) {
+        // 마지막으로 기록된 입찰이 최고가이므로 그 입찰자가 요청자이면 선두다 (기록이 없으면 이미 선두였다)
+        Bid last = bids.isEmpty() ? null : bids.get(bids.size() - 1);
+        UUID highestBidId = last != null ? last.getId() : null;
+        boolean leading = last == null || last.getBidderId().equals(bidderId);
+
+        List<BidResponse> responses = bids.stream()
+                .map(bid -> BidResponse.from(bid, bid.getStatus() == BidStatus.ACTIVE ? highestBidId : null))
+                .toList();
+        return new ProxyBidResponse(auctionId, maxAmount, leading, responses);
+    }
+}
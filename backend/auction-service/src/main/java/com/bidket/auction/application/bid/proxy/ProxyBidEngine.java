@@ -0,0 +1,89 @@
+package com.bidket.auction.application.bid.proxy;
+
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.bid.event.ProxyBidRegisteredEvent;
+import com.bidket.auction.infrastructure.redis.ProxyBidStore;
+import com.bidket.auction.infrastructure.redis.ProxyCeiling;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 자동(최대가) 입찰을 한 번에 해석한다.
+ * 입찰 단위씩 주고받는 과정을 재현하지 않고, 경쟁 상한 + 입찰 단위로 최종 가격을 바로 계산해
+ * 원장에는 그 결과로 보이는 입찰만 남긴다. 동점이면 먼저 등록된 상한(현재 최고 입찰자)이 이긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProxyBidEngine {
+
+    private final ProxyBidStore proxyBidStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * bidderId 의 입찰가 amount 에 대한 다른 자동 입찰자의 응답을 계산한다.
+     * 경쟁 상한이 amount 이상이면 경쟁자가 필요한 만큼만(최대 상한까지) 올린 입찰을 돌려주며, 이때 원래 입찰은 즉시 밀린다.
+     */
+    public Optional<VisibleBid> respondTo(Auction auction, UUID bidderId, long amount) {
+        return strongestCompetitor(auction, bidderId)
+                .filter(competitor -> competitor.ceiling() >= amount)
+                .map(competitor -> response(auction, competitor, amount));
+    }
+
+    /**
+     * 최대 입찰가 maxAmount 의 자동 입찰을 해석해 원장에 기록할 입찰을 순서대로 돌려준다. 최소 입찰가 검증은 호출자가 한다.
+     * - 이기면: 경쟁 상한 + 입찰 단위(최소 입찰가 이상, maxAmount 이하) 한 건
+     * - 지면: maxAmount 로 밀린 입찰과 경쟁자의 응답 입찰 두 건
+     */
+    public List<VisibleBid> resolve(Auction auction, UUID bidderId, long maxAmount) {
+        Optional<ProxyCeiling> competitor = strongestCompetitor(auction, bidderId);
+        if (competitor.isPresent() && competitor.get().ceiling() >= maxAmount) {
+            return List.of(
+                    new VisibleBid(bidderId, maxAmount, true),
+                    response(auction, competitor.get(), maxAmount)
+            );
+        }
+
+        long increment = auction.getPriceInfo().getBidIncrement();
+        long minimumBid = auction.getPriceInfo().getCurrentPrice() + increment;
+        long price = competitor
+                .map(ceiling -> Math.max(minimumBid, Math.min(maxAmount, ceiling.ceiling() + increment)))
+                .orElse(minimumBid);
+        return List.of(new VisibleBid(bidderId, price, false));
+    }
+
+    private VisibleBid response(Auction auction, ProxyCeiling competitor, long amount) {
+        long response = Math.min(competitor.ceiling(), amount + auction.getPriceInfo().getBidIncrement());
+        log.debug("자동 입찰 응답 - 경매 ID: {}, 응답자: {}, 금액: {}", auction.getId(), competitor.bidderId(), response);
+        return new VisibleBid(competitor.bidderId(), response, false);
+    }
+
+    // 최소 입찰가에 못 미치는 상한은 더 이상 응답할 수 없으므로 제외한다
+    private Optional<ProxyCeiling> strongestCompetitor(Auction auction, UUID bidderId) {
+        long minimumBid = auction.getPriceInfo().getCurrentPrice() + auction.getPriceInfo().getBidIncrement();
+        UUID leaderId = auction.getHighestBid() != null ? auction.getHighestBid().getBidderId() : null;
+        return proxyBidStore.findStrongestExcept(auction.getId(), bidderId, leaderId)
+                .filter(ceiling -> ceiling.ceiling() >= minimumBid);
+    }
+
+    /**
+     * 상한은 입찰 트랜잭션이 커밋된 뒤에 저장한다. 롤백된 자동 입찰이 이후 입찰에 응답하지 않도록 하기 위함이다.
+     */
+    public void register(Auction auction, UUID bidderId, long maxAmount) {
+        eventPublisher.publishEvent(new ProxyBidRegisteredEvent(
+                auction.getId(), bidderId, maxAmount, auction.getPeriod().getEndTime()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRegistered(ProxyBidRegisteredEvent event) {
+        proxyBidStore.register(event.auctionId(), event.bidderId(), event.maxAmount(), event.endTime());
+    }
+}
@@ -0,0 +1,13 @@
+package com.bidket.auction.application.bid.proxy;
+
+import java.util.UUID;
+
+/**
+ * 자동 입찰 해석 결과 원장에 기록할 입찰. outbid 이면 기록 즉시 다른 입찰에 밀린 입찰이다.
+ */
+public record VisibleBid(
+        UUID bidderId,
+        Long amount,
+        boolean outbid
+) {
+}
@@ -0,0 +1,38 @@
+package com.bidket.auction.application.bid.scheduler;
+
+import com.bidket.auction.infrastructure.bid.persistence.partition.BidPartitionManager;
+import com.bidket.auction.infrastructure.redis.ShardLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * 입찰 원장 파티션 유지보수. 다가올 파티션을 미리 만들고 보관 기간이 지난 파티션을 분리한다. 리더 레플리카만 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidPartitionScheduler {
+
+    private final BidPartitionManager partitionManager;
+    private final ShardLeaseManager shardLeaseManager;
+
+    @Scheduled(cron = "${bidket.bid.ledger.maintenance-cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        if (!shardLeaseManager.isLeader()) {
+            return;
+        }
+
+        try {
+            YearMonth current = YearMonth.now();
+            partitionManager.createUpcomingPartitions(current);
+            int detached = partitionManager.detachExpiredPartitions(current);
+            log.info("입찰 원장 파티션 점검 완료 (분리: {} 개)", detached);
+        } catch (Exception e) {
+            log.error("입찰 원장 파티션 점검 중 오류 발생", e);
+        }
+    }
+}
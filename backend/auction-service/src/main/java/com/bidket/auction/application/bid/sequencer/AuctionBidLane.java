@@ -0,0 +1,97 @@
+package com.bidket.auction.application.bid.sequencer;
+
+import com.bidket.auction.domain.bid.model.Bid;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경매 한 건의 입찰 메일박스.
+ * 한 시점에 하나의 워커만 drain 하므로 snapshot 은 단일 writer 로 갱신된다.
+ */
+class AuctionBidLane {
+
+    private final UUID auctionId;
+    private final int capacity;
+    private final Queue<PendingBid> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile BidLaneSnapshot snapshot;
+    private volatile long lastActiveAt = System.currentTimeMillis();
+
+    AuctionBidLane(UUID auctionId, int capacity) {
+        this.auctionId = auctionId;
+        this.capacity = capacity;
+    }
+
+    UUID auctionId() {
+        return auctionId;
+    }
+
+    boolean offer(PendingBid pendingBid) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        mailbox.offer(pendingBid);
+        lastActiveAt = System.currentTimeMillis();
+        return true;
+    }
+
+    PendingBid poll() {
+        PendingBid pendingBid = mailbox.poll();
+        if (pendingBid != null) {
+            size.decrementAndGet();
+        }
+        return pendingBid;
+    }
+
+    boolean hasPending() {
+        return !mailbox.isEmpty();
+    }
+
+    boolean tryMarkScheduled() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void unmarkScheduled() {
+        lastActiveAt = System.currentTimeMillis();
+        scheduled.set(false);
+    }
+
+    boolean isIdleSince(long cutoffMillis) {
+        return !scheduled.get() && mailbox.isEmpty() && lastActiveAt < cutoffMillis;
+    }
+
+    BidLaneSnapshot snapshot() {
+        return snapshot;
+    }
+
+    void updateSnapshot(BidLaneSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    void invalidateSnapshot() {
+        this.snapshot = null;
+    }
+
+    /**
+     * claimed 는 워커가 처리를 시작하거나 호출자가 대기 시간 초과로 취소할 때 한 번만 선점된다.
+     */
+    record PendingBid(UUID bidderId, Long amount, String idempotencyKey, CompletableFuture<Bid> result,
+                      AtomicBoolean claimed) {
+
+        PendingBid(UUID bidderId, Long amount, String idempotencyKey, CompletableFuture<Bid> result) {
+            this(bidderId, amount, idempotencyKey, result, new AtomicBoolean());
+        }
+
+        boolean tryClaim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
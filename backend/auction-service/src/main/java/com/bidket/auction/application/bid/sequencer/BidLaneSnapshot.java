@@ -0,0 +1,41 @@
+package com.bidket.auction.application.bid.sequencer;
+
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.vo.PriceInfo;
+
+import java.util.UUID;
+
+/**
+ * 경매 레인이 메모리에 보관하는 가격 스냅샷.
+ * ACTIVE 상태의 경매에 대해서만 생성되며, 커밋된 입찰 금액으로만 갱신된다.
+ */
+record BidLaneSnapshot(UUID sellerId, PriceInfo priceInfo) {
+
+    static BidLaneSnapshot from(Auction auction) {
+        if (auction.getStatus() != AuctionStatus.ACTIVE) {
+            throw new IllegalStateException("ACTIVE 상태의 경매에만 입찰할 수 있습니다");
+        }
+        return new BidLaneSnapshot(auction.getSellerId(), auction.getPriceInfo());
+    }
+
+    void validate(UUID bidderId, Long amount) {
+        if (sellerId.equals(bidderId)) {
+            throw new IllegalArgumentException("본인의 경매에는 입찰할 수 없습니다");
+        }
+
+        Long minimumBid = priceInfo.getCurrentPrice() + priceInfo.getBidIncrement();
+        if (amount < minimumBid) {
+            throw new IllegalArgumentException(
+                    String.format("최소 입찰가는 %d원입니다 (현재가: %d원 + 입찰 단위: %d원)",
+                            minimumBid,
+                            priceInfo.getCurrentPrice(),
+                            priceInfo.getBidIncrement())
+            );
+        }
+    }
+
+    BidLaneSnapshot withCurrentPrice(Long newPrice) {
+        return new BidLaneSnapshot(sellerId, priceInfo.withUpdatedCurrentPrice(newPrice));
+    }
+}
@@ -0,0 +1,236 @@
+package com.bidket.auction.application.bid.sequencer;
+
+import com.bidket.auction.application.bid.service.BidService;
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.domain.bid.model.Bid;
+import com.bidket.auction.domain.bid.model.BidStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경매별 단일 writer 입찰 시퀀서.
+ * 같은 경매의 입찰은 하나의 레인에서 순서대로 검증/커밋되고, 서로 다른 경매의 레인은 워커 풀에서 병렬로 처리된다.
+ */
+@Slf4j
+@Component
+public class BidSequencer {
+
+    private final BidService bidService;
+    private final AuctionRepository auctionRepository;
+    private final ConcurrentMap<UUID, AuctionBidLane> lanes = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+
+    private final int mailboxCapacity;
+    private final int drainBatchSize;
+    private final long submitTimeoutMillis;
+    private final long idleEvictionMillis;
+
+    public BidSequencer(BidService bidService,
+                        AuctionRepository auctionRepository,
+                        @Value("${bidket.bid.sequencer.workers:0}") int workerCount,
+                        @Value("${bidket.bid.sequencer.mailbox-capacity:1000}") int mailboxCapacity,
+                        @Value("${bidket.bid.sequencer.drain-batch-size:64}") int drainBatchSize,
+                        @Value("${bidket.bid.sequencer.submit-timeout-ms:5000}") long submitTimeoutMillis,
+                        @Value("${bidket.bid.sequencer.idle-eviction-ms:300000}") long idleEvictionMillis) {
+        this.bidService = bidService;
+        this.auctionRepository = auctionRepository;
+        this.mailboxCapacity = mailboxCapacity;
+        this.drainBatchSize = drainBatchSize;
+        this.submitTimeoutMillis = submitTimeoutMillis;
+        this.idleEvictionMillis = idleEvictionMillis;
+
+        int threads = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(threads, new LaneThreadFactory());
+    }
+
+    public Bid placeBid(UUID auctionId, UUID bidderId, Long amount) {
+        return placeBid(auctionId, bidderId, amount, null);
+    }
+
+    public Bid placeBid(UUID auctionId, UUID bidderId, Long amount, String idempotencyKey) {
+        AuctionBidLane.PendingBid pendingBid = enqueue(auctionId, bidderId, amount, idempotencyKey);
+        try {
+            return pendingBid.result().get(submitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 레인에서 꺼내지지 않은 입찰만 취소한다. 이미 커밋 중이면 늦게라도 커밋될 수 있으므로 결과를 기다린다
+            if (pendingBid.tryClaim()) {
+                throw new IllegalStateException("입찰 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요");
+            }
+            return await(pendingBid.result());
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pendingBid.tryClaim()) {
+                throw new IllegalStateException("입찰 처리가 중단되었습니다");
+            }
+            return await(pendingBid.result());
+        }
+    }
+
+    public CompletableFuture<Bid> submit(UUID auctionId, UUID bidderId, Long amount) {
+        return submit(auctionId, bidderId, amount, null);
+    }
+
+    public CompletableFuture<Bid> submit(UUID auctionId, UUID bidderId, Long amount, String idempotencyKey) {
+        return enqueue(auctionId, bidderId, amount, idempotencyKey).result();
+    }
+
+    private AuctionBidLane.PendingBid enqueue(UUID auctionId, UUID bidderId, Long amount, String idempotencyKey) {
+        CompletableFuture<Bid> result = new CompletableFuture<>();
+        AuctionBidLane.PendingBid pendingBid = new AuctionBidLane.PendingBid(bidderId, amount, idempotencyKey, result);
+
+        boolean[] accepted = new boolean[1];
+        AuctionBidLane lane = lanes.compute(auctionId, (id, existing) -> {
+            AuctionBidLane target = existing != null ? existing : new AuctionBidLane(id, mailboxCapacity);
+            accepted[0] = target.offer(pendingBid);
+            return target;
+        });
+
+        if (!accepted[0]) {
+            log.warn("입찰 메일박스 포화 - 경매 ID: {}, 용량: {}", auctionId, mailboxCapacity);
+            result.completeExceptionally(
+                    new IllegalStateException("입찰 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+            return pendingBid;
+        }
+
+        schedule(lane);
+        return pendingBid;
+    }
+
+    private Bid await(CompletableFuture<Bid> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("입찰 처리 중 오류가 발생했습니다", cause);
+    }
+
+    private void schedule(AuctionBidLane lane) {
+        if (lane.tryMarkScheduled()) {
+            workers.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(AuctionBidLane lane) {
+        try {
+            AuctionBidLane.PendingBid pendingBid;
+            int processed = 0;
+            while (processed < drainBatchSize && (pendingBid = lane.poll()) != null) {
+                process(lane, pendingBid);
+                processed++;
+            }
+        } finally {
+            lane.unmarkScheduled();
+            if (lane.hasPending()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    private void process(AuctionBidLane lane, AuctionBidLane.PendingBid pendingBid) {
+        if (!pendingBid.tryClaim()) {
+            // 호출자가 대기 시간 초과로 이미 취소한 입찰
+            return;
+        }
+        try {
+            pendingBid.result().complete(commit(lane, pendingBid, true));
+        } catch (RuntimeException e) {
+            pendingBid.result().completeExceptionally(e);
+        }
+    }
+
+    private Bid commit(AuctionBidLane lane, AuctionBidLane.PendingBid pendingBid, boolean retryOnConflict) {
+        BidLaneSnapshot snapshot = lane.snapshot();
+        if (snapshot == null) {
+            snapshot = loadSnapshot(lane.auctionId());
+            lane.updateSnapshot(snapshot);
+        }
+
+        snapshot.validate(pendingBid.bidderId(), pendingBid.amount());
+
+        try {
+            Bid bid = bidService.placeBid(lane.auctionId(), pendingBid.bidderId(), pendingBid.amount(),
+                    pendingBid.idempotencyKey());
+            if (bid.getStatus() == BidStatus.OUTBID) {
+                // 자동 입찰이 응답해 현재가가 이 입찰보다 높아졌으므로 다음 입찰 때 다시 읽는다
+                lane.invalidateSnapshot();
+            } else {
+                lane.updateSnapshot(snapshot.withCurrentPrice(bid.getAmount()));
+            }
+            return bid;
+        } catch (OptimisticLockingFailureException e) {
+            // 다른 인스턴스가 먼저 커밋한 경우 스냅샷을 다시 읽고 한 번만 재시도한다
+            lane.invalidateSnapshot();
+            if (!retryOnConflict) {
+                throw e;
+            }
+            log.debug("입찰 커밋 충돌, 스냅샷 갱신 후 재시도 - 경매 ID: {}", lane.auctionId());
+            return commit(lane, pendingBid, false);
+        } catch (RuntimeException e) {
+            lane.invalidateSnapshot();
+            throw e;
+        }
+    }
+
+    private BidLaneSnapshot loadSnapshot(UUID auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다: " + auctionId));
+        return BidLaneSnapshot.from(auction);
+    }
+
+    @Scheduled(fixedDelayString = "${bidket.bid.sequencer.idle-eviction-ms:300000}")
+    public void evictIdleLanes() {
+        long cutoff = System.currentTimeMillis() - idleEvictionMillis;
+        lanes.keySet().forEach(auctionId ->
+                lanes.computeIfPresent(auctionId, (id, lane) -> lane.isIdleSince(cutoff) ? null : lane));
+    }
+
+    public int activeLaneCount() {
+        return lanes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(submitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private static class LaneThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "bid-lane-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.bidket.auction.application.bid.service;
+
+public enum BidPlacementMode {
+    SEQUENCER,
+    REDIS
+}
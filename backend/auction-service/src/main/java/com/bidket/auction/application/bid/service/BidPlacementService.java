@@ -0,0 +1,142 @@
+package com.bidket.auction.application.bid.service;
+
+import com.bidket.auction.application.bid.dto.request.CreateBidRequest;
+import com.bidket.auction.application.bid.dto.request.CreateProxyBidRequest;
+import com.bidket.auction.application.bid.dto.response.BidResponse;
+import com.bidket.auction.application.bid.dto.response.ProxyBidResponse;
+import com.bidket.auction.application.bid.sequencer.BidSequencer;
+import com.bidket.auction.domain.bid.model.Bid;
+import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.infrastructure.redis.BidIdempotencyStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidPlacementService {
+
+    // 입찰자 ID(36자), 구분자와 합쳐 BidMetadata.idempotencyKey 컬럼(100자)에 들어가야 한다
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 63;
+
+    private final BidSequencer bidSequencer;
+    private final BidService bidService;
+    private final RedisBidAcceptanceService redisBidAcceptanceService;
+    private final BidIdempotencyStore bidIdempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${bidket.bid.placement-mode:SEQUENCER}")
+    private BidPlacementMode placementMode;
+
+    public BidResponse createBid(UUID bidderId, CreateBidRequest request) {
+        return createBid(bidderId, request, null);
+    }
+
+    /**
+     * Idempotency-Key 가 있으면 같은 키의 재시도에 처음 입찰의 응답을 그대로 돌려준다.
+     * 재시도는 Redis 조회 한 번으로 끝나고, 캐시가 만료된 뒤에는 입찰 행에 저장된 키로 원래 입찰을 찾는다.
+     */
+    public BidResponse createBid(UUID bidderId, CreateBidRequest request, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return place(bidderId, request, null);
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다");
+        }
+
+        // 다른 사용자가 같은 키를 보내도 서로의 응답을 받지 않도록 입찰자 기준으로 범위를 나눈다
+        String scopedKey = bidderId + ":" + idempotencyKey;
+
+        Optional<String> cached = bidIdempotencyStore.find(scopedKey);
+        if (cached.isPresent()) {
+            return replay(scopedKey, cached.get(), request);
+        }
+        if (!bidIdempotencyStore.reserve(scopedKey)) {
+            return replay(scopedKey, bidIdempotencyStore.find(scopedKey).orElse(BidIdempotencyStore.PENDING), request);
+        }
+
+        BidResponse response;
+        try {
+            Optional<BidResponse> existing = bidService.getBidByIdempotencyKey(scopedKey);
+            response = existing.isPresent()
+                    ? verifySameRequest(existing.get(), request)
+                    : placeOrReplay(bidderId, request, scopedKey);
+        } catch (RuntimeException e) {
+            // 실패한 요청은 같은 키로 다시 시도할 수 있어야 한다
+            bidIdempotencyStore.release(scopedKey);
+            throw e;
+        }
+
+        try {
+            bidIdempotencyStore.complete(scopedKey, objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            // 입찰은 이미 반영됐으므로 응답은 그대로 돌려주고, 이후 재시도는 입찰 행의 키로 처리된다
+            log.warn("입찰 응답 캐시 저장 실패 - 키: {}", scopedKey, e);
+            bidIdempotencyStore.release(scopedKey);
+        }
+        return response;
+    }
+
+    private BidResponse place(UUID bidderId, CreateBidRequest request, String idempotencyKey) {
+        if (placementMode == BidPlacementMode.REDIS) {
+            return redisBidAcceptanceService.accept(request.auctionId(), bidderId, request.amount(), idempotencyKey);
+        }
+
+        Bid bid = bidSequencer.placeBid(request.auctionId(), bidderId, request.amount(), idempotencyKey);
+        // 자동 입찰에 바로 밀린 경우(OUTBID)가 아니면 방금 커밋된 입찰이 경매의 최고가 입찰이다
+        return BidResponse.from(bid, bid.getStatus() == BidStatus.ACTIVE ? bid.getId() : null);
+    }
+
+    /**
+     * PENDING 표식이 만료된 뒤 앞선 요청의 입찰이 늦게 커밋되면 이 요청은 키 충돌이나 최소 입찰가 미달로 실패한다.
+     * 그때는 먼저 커밋된 입찰로 응답한다.
+     */
+    private BidResponse placeOrReplay(UUID bidderId, CreateBidRequest request, String scopedKey) {
+        try {
+            return place(bidderId, request, scopedKey);
+        } catch (RuntimeException e) {
+            Optional<BidResponse> committed = bidService.getBidByIdempotencyKey(scopedKey);
+            if (committed.isEmpty()) {
+                throw e;
+            }
+            log.info("같은 키의 입찰이 먼저 커밋됨, 기존 입찰 반환 - 키: {}", scopedKey);
+            return verifySameRequest(committed.get(), request);
+        }
+    }
+
+    public ProxyBidResponse createProxyBid(UUID bidderId, CreateProxyBidRequest request) {
+        if (placementMode == BidPlacementMode.REDIS) {
+            throw new IllegalStateException("REDIS 입찰 모드에서는 자동 입찰을 지원하지 않습니다");
+        }
+
+        List<Bid> bids = bidService.placeProxyBid(request.auctionId(), bidderId, request.maxAmount());
+        return ProxyBidResponse.of(request.auctionId(), bidderId, request.maxAmount(), bids);
+    }
+
+    private BidResponse replay(String scopedKey, String cached, CreateBidRequest request) {
+        if (BidIdempotencyStore.PENDING.equals(cached)) {
+            throw new IllegalStateException("같은 Idempotency-Key 의 입찰이 처리 중입니다. 잠시 후 다시 시도해주세요");
+        }
+        try {
+            log.debug("중복 입찰 요청, 기존 응답 반환 - 키: {}", scopedKey);
+            return verifySameRequest(objectMapper.readValue(cached, BidResponse.class), request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 입찰 응답을 읽을 수 없습니다", e);
+        }
+    }
+
+    private BidResponse verifySameRequest(BidResponse response, CreateBidRequest request) {
+        if (!response.auctionId().equals(request.auctionId()) || !response.amount().equals(request.amount())) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 입찰을 요청할 수 없습니다");
+        }
+        return response;
+    }
+}
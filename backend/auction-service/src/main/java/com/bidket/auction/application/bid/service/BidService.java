@@ -1,12 +1,17 @@
 package com.bidket.auction.application.bid.service;
 
 import com.bidket.auction.application.bid.dto.request.CreateBidRequest;
-import com.bidket.auction.application.bid.dto.response.BidListResponse;
+import com.bidket.auction.application.bid.dto.response.BidCursor;
+import com.bidket.auction.application.bid.dto.response.BidPageResponse;
 import com.bidket.auction.application.bid.dto.response.BidResponse;
+import com.bidket.auction.application.bid.proxy.ProxyBidEngine;
+import com.bidket.auction.application.bid.proxy.VisibleBid;
 import com.bidket.auction.domain.auction.model.Auction;
 import com.bidket.auction.domain.auction.model.AuctionStatus;
 import com.bidket.auction.domain.auction.repository.AuctionRepository;
 import com.bidket.auction.domain.bid.model.Bid;
+import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.model.BidSummary;
 import com.bidket.auction.domain.bid.repository.BidRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +19,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,11 +31,87 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class BidService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BidRepository bidRepository;
     private final AuctionRepository auctionRepository;
+    private final ProxyBidEngine proxyBidEngine;
 
     @Transactional
     public Bid placeBid(UUID auctionId, UUID bidderId, Long amount) {
+        return placeBid(auctionId, bidderId, amount, null);
+    }
+
+    /**
+     * idempotencyKey 는 입찰 행에 함께 저장되어, 재시도 캐시가 만료된 뒤에도 원래 입찰을 찾는 데 쓰인다.
+     */
+    @Transactional
+    public Bid placeBid(UUID auctionId, UUID bidderId, Long amount, String idempotencyKey) {
+        Auction auction = findBiddableAuction(auctionId, bidderId);
+        validateMinimumBid(auction, amount);
+
+        // 다른 입찰자의 자동 입찰 상한이 이 금액 이상이면 이 입찰은 기록 즉시 밀리고 자동 입찰이 응답한다
+        Optional<VisibleBid> proxyResponse = proxyBidEngine.respondTo(auction, bidderId, amount);
+
+        // 입찰 행은 추가만 하고, 최고가 여부는 경매의 최고가 입찰 포인터로 관리한다
+        Bid newBid = Bid.builder()
+                .auctionId(auctionId)
+                .bidderId(bidderId)
+                .amount(amount)
+                .idempotencyKey(idempotencyKey)
+                .status(proxyResponse.isPresent() ? BidStatus.OUTBID : BidStatus.ACTIVE)
+                .build();
+
+        Bid savedBid = bidRepository.save(newBid);
+        if (idempotencyKey != null) {
+            // 같은 키의 입찰이 이미 커밋되었으면 여기서 키 충돌로 트랜잭션 전체가 롤백된다
+            bidRepository.saveIdempotencyKey(idempotencyKey, savedBid.getId());
+        }
+
+        if (proxyResponse.isPresent()) {
+            recordVisibleBid(auction, proxyResponse.get());
+        } else {
+            auction.recordHighestBid(savedBid.getId(), bidderId, amount);
+        }
+        auctionRepository.save(auction);
+
+        log.info("입찰 등록 완료 - 경매 ID: {}, 입찰자: {}, 금액: {}", auctionId, bidderId, amount);
+        
+        return savedBid;
+    }
+
+    /**
+     * 최대 입찰가까지 자동으로 입찰한다. 경쟁 상한과 비교해 최종 가격을 한 번에 계산하므로
+     * 입찰 단위마다 행과 트랜잭션을 만들지 않고, 결과로 보이는 입찰(최대 두 건)만 기록한다.
+     * 이미 최고 입찰자이면 상한만 올리고 새 입찰은 기록하지 않는다.
+     */
+    @Transactional
+    public List<Bid> placeProxyBid(UUID auctionId, UUID bidderId, Long maxAmount) {
+        Auction auction = findBiddableAuction(auctionId, bidderId);
+
+        if (auction.getHighestBid() != null && bidderId.equals(auction.getHighestBid().getBidderId())) {
+            if (maxAmount <= auction.getPriceInfo().getCurrentPrice()) {
+                throw new IllegalArgumentException("최대 입찰가는 현재가보다 커야 합니다");
+            }
+            proxyBidEngine.register(auction, bidderId, maxAmount);
+            return List.of();
+        }
+
+        validateMinimumBid(auction, maxAmount);
+
+        List<Bid> recorded = proxyBidEngine.resolve(auction, bidderId, maxAmount).stream()
+                .map(visibleBid -> recordVisibleBid(auction, visibleBid))
+                .toList();
+        auctionRepository.save(auction);
+        proxyBidEngine.register(auction, bidderId, maxAmount);
+
+        log.info("자동 입찰 등록 완료 - 경매 ID: {}, 입찰자: {}, 최대 입찰가: {}, 현재가: {}",
+                auctionId, bidderId, maxAmount, auction.getPriceInfo().getCurrentPrice());
+
+        return recorded;
+    }
+
+    private Auction findBiddableAuction(UUID auctionId, UUID bidderId) {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다: " + auctionId));
 
@@ -35,10 +119,18 @@ public class BidService {
             throw new IllegalStateException("ACTIVE 상태의 경매에만 입찰할 수 있습니다");
         }
 
+        // 종료 처리 전이라도 종료 시각이 지난 입찰은 받지 않는다. 종료 직전 입찰은 recordHighestBid 에서 연장된다
+        if (auction.isEnded()) {
+            throw new IllegalStateException("종료된 경매에는 입찰할 수 없습니다");
+        }
+
         if (auction.getSellerId().equals(bidderId)) {
             throw new IllegalArgumentException("본인의 경매에는 입찰할 수 없습니다");
         }
+        return auction;
+    }
 
+    private void validateMinimumBid(Auction auction, Long amount) {
         Long minimumBid = auction.getPriceInfo().getCurrentPrice() + auction.getPriceInfo().getBidIncrement();
         if (amount < minimumBid) {
             throw new IllegalArgumentException(
@@ -48,59 +140,67 @@ public class BidService {
                     auction.getPriceInfo().getBidIncrement())
             );
         }
+    }
 
-        Optional<Bid> previousHighestBid = bidRepository.findHighestBidByAuctionId(auctionId);
-        if (previousHighestBid.isPresent()) {
-            Bid prevBid = previousHighestBid.get();
-            prevBid.markAsOutbid();
-            bidRepository.save(prevBid);
+    // 밀린 입찰은 행만 남기고, 최고가가 되는 입찰만 경매의 현재가와 포인터를 갱신한다
+    private Bid recordVisibleBid(Auction auction, VisibleBid visibleBid) {
+        Bid bid = bidRepository.save(Bid.builder()
+                .auctionId(auction.getId())
+                .bidderId(visibleBid.bidderId())
+                .amount(visibleBid.amount())
+                .status(visibleBid.outbid() ? BidStatus.OUTBID : BidStatus.ACTIVE)
+                .build());
+
+        if (!visibleBid.outbid()) {
+            auction.recordHighestBid(bid.getId(), visibleBid.bidderId(), visibleBid.amount());
         }
-
-        Bid newBid = Bid.builder()
-                .auctionId(auctionId)
-                .bidderId(bidderId)
-                .amount(amount)
-                .build();
-        newBid.markAsHighest();
-        
-        Bid savedBid = bidRepository.save(newBid);
-
-        auction.updateCurrentPrice(amount);
-        auctionRepository.save(auction);
-
-        log.info("입찰 등록 완료 - 경매 ID: {}, 입찰자: {}, 금액: {}", auctionId, bidderId, amount);
-        
-        return savedBid;
+        return bid;
     }
 
     @Transactional
     public BidResponse createBid(UUID bidderId, CreateBidRequest request) {
         Bid bid = placeBid(request.auctionId(), bidderId, request.amount());
-        return BidResponse.from(bid);
+        return BidResponse.from(bid, bid.getStatus() == BidStatus.ACTIVE ? bid.getId() : null);
     }
 
-    public BidListResponse getBidsByAuction(UUID auctionId) {
-        List<Bid> bids = bidRepository.findByAuctionId(auctionId);
-        List<BidResponse> bidResponses = bids.stream()
-                .map(BidResponse::from)
-                .toList();
-        
-        return BidListResponse.of(bidResponses, bids.size());
+    /**
+     * 경매의 입찰 이력을 최신순 keyset 페이지로 조회한다. cursor 가 없으면 첫 페이지다.
+     */
+    public BidPageResponse getBidsByAuction(UUID auctionId, String cursor, int size) {
+        BidCursor after = cursor != null ? BidCursor.decode(cursor) : null;
+        int limit = clampPageSize(size);
+
+        List<BidSummary> rows = bidRepository.findSummariesByAuctionId(
+                auctionId, after != null ? after.createdAt() : null, after != null ? after.id() : null, limit + 1);
+
+        UUID highestBidId = findHighestBidId(auctionId);
+        return toPage(rows, limit, summary -> highestBidId);
     }
 
-    public BidListResponse getMyBids(UUID bidderId) {
-        List<Bid> bids = bidRepository.findByBidderId(bidderId);
-        List<BidResponse> bidResponses = bids.stream()
-                .map(BidResponse::from)
-                .toList();
-        
-        return BidListResponse.of(bidResponses, bids.size());
+    public BidPageResponse getMyBids(UUID bidderId, String cursor, int size) {
+        BidCursor after = cursor != null ? BidCursor.decode(cursor) : null;
+        int limit = clampPageSize(size);
+
+        List<BidSummary> rows = bidRepository.findSummariesByBidderId(
+                bidderId, after != null ? after.createdAt() : null, after != null ? after.id() : null, limit + 1);
+
+        Map<UUID, UUID> highestBidIds = auctionRepository.findHighestBidIds(
+                rows.stream().map(BidSummary::auctionId).collect(Collectors.toSet()));
+        return toPage(rows, limit, summary -> highestBidIds.get(summary.auctionId()));
+    }
+
+    /**
+     * Idempotency-Key 로 저장된 입찰을 조회 API 와 같은 최고가 입찰 포인터 기준으로 응답한다.
+     */
+    public Optional<BidResponse> getBidByIdempotencyKey(String idempotencyKey) {
+        return bidRepository.findByIdempotencyKey(idempotencyKey)
+                .map(bid -> BidResponse.from(bid, findHighestBidId(bid.getAuctionId())));
     }
 
     public BidResponse getBidById(UUID bidId) {
         Bid bid = bidRepository.findById(bidId)
                 .orElseThrow(() -> new IllegalArgumentException("입찰을 찾을 수 없습니다: " + bidId));
-        return BidResponse.from(bid);
+        return BidResponse.from(bid, findHighestBidId(bid.getAuctionId()));
     }
 
     @Transactional
@@ -112,11 +212,32 @@ public class BidService {
             throw new IllegalArgumentException("본인의 입찰만 취소할 수 있습니다");
         }
 
-        bid.cancel();
+        bid.cancel(findHighestBidId(bid.getAuctionId()));
         bidRepository.save(bid);
 
         log.info("입찰 취소 완료 - 입찰 ID: {}, 입찰자: {}", bidId, bidderId);
     }
-}
 
+    // limit + 1 건을 읽어 다음 페이지 존재 여부를 판단한다
+    private BidPageResponse toPage(List<BidSummary> rows, int limit, Function<BidSummary, UUID> highestBidId) {
+        boolean hasNext = rows.size() > limit;
+        List<BidSummary> page = hasNext ? rows.subList(0, limit) : rows;
 
+        List<BidResponse> bids = page.stream()
+                .map(summary -> BidResponse.from(summary, highestBidId.apply(summary)))
+                .toList();
+
+        BidSummary last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return BidPageResponse.of(bids, hasNext ? new BidCursor(last.createdAt(), last.id()) : null);
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private UUID findHighestBidId(UUID auctionId) {
+        return auctionRepository.findById(auctionId)
+                .map(Auction::getHighestBidId)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,88 @@
+package com.bidket.auction.application.bid.service;
+
+import com.bidket.auction.application.bid.dto.response.BidResponse;
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.infrastructure.redis.AuctionLifecycleQueue;
+import com.bidket.auction.infrastructure.redis.AuctionTransition;
+import com.bidket.auction.infrastructure.redis.RedisBidStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis Lua 스크립트로 입찰을 수락하고 DB 반영은 write-behind 워커에 맡긴다.
+ * 응답의 입찰 ID는 DB 반영 전이므로 비어 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisBidAcceptanceService {
+
+    private final RedisBidStore redisBidStore;
+    private final AuctionRepository auctionRepository;
+    private final AuctionLifecycleQueue auctionLifecycleQueue;
+
+    public BidResponse accept(UUID auctionId, UUID bidderId, Long amount, String idempotencyKey) {
+        long now = System.currentTimeMillis();
+        List<Long> result = redisBidStore.tryAccept(auctionId, bidderId, amount, now, idempotencyKey);
+
+        if (result != null && !result.isEmpty() && result.get(0) == RedisBidStore.RESULT_STATE_MISSING) {
+            Auction auction = auctionRepository.findById(auctionId)
+                    .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다: " + auctionId));
+            redisBidStore.seed(auction);
+            result = redisBidStore.tryAccept(auctionId, bidderId, amount, now, idempotencyKey);
+        }
+
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("입찰 처리 중 오류가 발생했습니다");
+        }
+
+        long code = result.get(0);
+        if (code == RedisBidStore.RESULT_NOT_ACTIVE || code == RedisBidStore.RESULT_STATE_MISSING) {
+            throw new IllegalStateException("ACTIVE 상태의 경매에만 입찰할 수 있습니다");
+        }
+        if (code == RedisBidStore.RESULT_SELF_BID) {
+            throw new IllegalArgumentException("본인의 경매에는 입찰할 수 없습니다");
+        }
+        if (code == RedisBidStore.RESULT_AMOUNT_TOO_LOW) {
+            throw new IllegalArgumentException(
+                    String.format("최소 입찰가는 %d원입니다 (현재가: %d원 + 입찰 단위: %d원)",
+                            result.get(1), result.get(2), result.get(3))
+            );
+        }
+
+        log.info("입찰 수락(Redis) - 경매 ID: {}, 입찰자: {}, 금액: {}, 순번: {}",
+                auctionId, bidderId, amount, result.get(1));
+
+        // 종료 직전 입찰로 연장되었으면 DB 반영(write-behind)을 기다리지 않고 종료 예약을 바로 옮긴다
+        if (result.size() > 2 && result.get(2) > 0) {
+            LocalDateTime extendedEndTime = toLocalDateTime(result.get(2));
+            auctionLifecycleQueue.schedule(AuctionTransition.END, auctionId, extendedEndTime);
+            log.info("경매 자동 연장(Redis) - 경매 ID: {}, 새 종료 시각: {}", auctionId, extendedEndTime);
+        }
+
+        return new BidResponse(
+                null,
+                auctionId,
+                bidderId,
+                amount,
+                true,
+                BidStatus.ACTIVE,
+                null,
+                null,
+                toLocalDateTime(now)
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,34 @@
+package com.bidket.auction.application.bid.service;
+
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.infrastructure.redis.RedisBidStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 경매 상태 전이(시작/종료/취소)를 Redis 입찰 상태 해시에 반영한다.
+ * 적재 이후 상태가 바뀐 경매에 Lua 수락 스크립트가 계속 입찰을 받지 않도록 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bidket.bid.placement-mode", havingValue = "REDIS")
+@RequiredArgsConstructor
+public class RedisBidStateSynchronizer {
+
+    private final RedisBidStore redisBidStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(AuctionScheduleChangedEvent event) {
+        try {
+            if (redisBidStore.updateStatus(event.auctionId(), event.status())) {
+                log.debug("Redis 입찰 상태 갱신 - 경매 ID: {}, 상태: {}", event.auctionId(), event.status());
+            }
+        } catch (Exception e) {
+            log.warn("Redis 입찰 상태 갱신 실패: {} - {}", event.auctionId(), e.getMessage());
+        }
+    }
+}
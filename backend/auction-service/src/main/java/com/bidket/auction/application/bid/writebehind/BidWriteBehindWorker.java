@@ -0,0 +1,150 @@
+package com.bidket.auction.application.bid.writebehind;
+
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.domain.bid.model.Bid;
+import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.repository.BidRepository;
+import com.bidket.auction.infrastructure.redis.AcceptedBid;
+import com.bidket.auction.infrastructure.redis.LockHandle;
+import com.bidket.auction.infrastructure.redis.RedisBidStore;
+import com.bidket.auction.infrastructure.redis.RedisLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 에서 수락된 입찰을 배치 단위로 Postgres 에 반영한다.
+ * 경매별로 하나의 트랜잭션에서 입찰 행을 추가하고 현재가와 최고가 입찰 포인터를 갱신한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bidket.bid.placement-mode", havingValue = "REDIS")
+@RequiredArgsConstructor
+public class BidWriteBehindWorker {
+
+    private static final String LOCK_KEY = "bid:write-behind";
+
+    private final RedisBidStore redisBidStore;
+    private final RedisLockService redisLockService;
+    private final BidRepository bidRepository;
+    private final AuctionRepository auctionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${bidket.bid.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${bidket.bid.write-behind.interval-ms:200}")
+    public void flush() {
+        Optional<LockHandle> lock = redisLockService.tryLock(LOCK_KEY, Duration.ZERO);
+        if (lock.isEmpty()) {
+            return;
+        }
+
+        try (LockHandle ignored = lock.get()) {
+            List<String> payloads = redisBidStore.peekWriteBehind(batchSize);
+            if (payloads == null || payloads.isEmpty()) {
+                return;
+            }
+
+            Map<UUID, List<AcceptedBid>> bidsByAuction = new LinkedHashMap<>();
+            Map<UUID, List<String>> payloadsByAuction = new LinkedHashMap<>();
+            List<String> malformed = new ArrayList<>();
+
+            for (String payload : payloads) {
+                try {
+                    AcceptedBid acceptedBid = AcceptedBid.parse(payload);
+                    bidsByAuction.computeIfAbsent(acceptedBid.auctionId(), id -> new ArrayList<>()).add(acceptedBid);
+                    payloadsByAuction.computeIfAbsent(acceptedBid.auctionId(), id -> new ArrayList<>()).add(payload);
+                } catch (RuntimeException e) {
+                    log.error("write-behind 입찰 데이터 파싱 실패: {}", payload, e);
+                    malformed.add(payload);
+                }
+            }
+
+            List<String> failed = new ArrayList<>(malformed);
+            int persistedCount = 0;
+            for (Map.Entry<UUID, List<AcceptedBid>> entry : bidsByAuction.entrySet()) {
+                try {
+                    Integer persisted = transactionTemplate.execute(status -> persist(entry.getKey(), entry.getValue()));
+                    persistedCount += persisted != null ? persisted : 0;
+                } catch (RuntimeException e) {
+                    log.error("write-behind 입찰 반영 실패 - 경매 ID: {}, 건수: {}",
+                            entry.getKey(), entry.getValue().size(), e);
+                    failed.addAll(payloadsByAuction.get(entry.getKey()));
+                }
+            }
+
+            redisBidStore.moveToDeadLetter(failed);
+            redisBidStore.trimWriteBehind(payloads.size());
+
+            log.debug("write-behind 입찰 반영 완료: {} 건 (실패: {} 건)", persistedCount, failed.size());
+        }
+    }
+
+    private int persist(UUID auctionId, List<AcceptedBid> acceptedBids) {
+        // 재전송된 입찰과 새 입찰이 한 배치에 섞일 수 있으므로 입찰 단위로 이미 반영된 키를 한 번에 조회해 걸러낸다
+        Set<String> persistedKeys = bidRepository.findExistingIdempotencyKeys(
+                acceptedBids.stream().map(AcceptedBid::writeBehindKey).toList());
+        // 같은 키가 한 배치에 두 번 들어오면 (만료된 PENDING 뒤의 재시도) 먼저 수락된 입찰만 남긴다
+        Map<String, AcceptedBid> pendingByKey = new LinkedHashMap<>();
+        for (AcceptedBid acceptedBid : acceptedBids) {
+            if (!persistedKeys.contains(acceptedBid.writeBehindKey())) {
+                pendingByKey.putIfAbsent(acceptedBid.writeBehindKey(), acceptedBid);
+            }
+        }
+        List<AcceptedBid> pending = List.copyOf(pendingByKey.values());
+
+        if (!persistedKeys.isEmpty()) {
+            log.warn("이미 반영된 write-behind 입찰 건너뜀 - 경매 ID: {}, 건수: {}", auctionId, persistedKeys.size());
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다: " + auctionId));
+
+        for (AcceptedBid acceptedBid : pending) {
+            Bid bid = bidRepository.save(Bid.builder()
+                    .auctionId(auctionId)
+                    .bidderId(acceptedBid.bidderId())
+                    .amount(acceptedBid.amount())
+                    .idempotencyKey(acceptedBid.writeBehindKey())
+                    .status(BidStatus.ACTIVE)
+                    .build());
+            bidRepository.saveIdempotencyKey(acceptedBid.writeBehindKey(), bid.getId());
+
+            LocalDateTime acceptedAt =
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(acceptedBid.acceptedAtMillis()), ZoneId.systemDefault());
+            if (auction.getStatus() == AuctionStatus.ACTIVE) {
+                auction.recordHighestBid(bid.getId(), acceptedBid.bidderId(), acceptedBid.amount(), acceptedAt);
+            } else if (!auction.recordLateBid(bid.getId(), acceptedBid.bidderId(), acceptedBid.amount(), acceptedAt)) {
+                // 이미 수락 응답을 받은 입찰이므로 버리지 않고 거절 상태로 남겨 추적할 수 있게 한다
+                log.warn("종료 시각 이후 수락된 write-behind 입찰 - 경매 ID: {}, 입찰자: {}, 금액: {}",
+                        auctionId, acceptedBid.bidderId(), acceptedBid.amount());
+                bid.reject();
+            }
+        }
+
+        auctionRepository.save(auction);
+        return pending.size();
+    }
+}
@@ -0,0 +1,49 @@
+package com.bidket.auction.application.outbox;
+
+import com.bidket.auction.domain.auction.event.AuctionPriceChangedEvent;
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.domain.outbox.model.OutboxEvent;
+import com.bidket.auction.domain.outbox.repository.OutboxEventRepository;
+import com.bidket.auction.infrastructure.config.KafkaConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * 도메인 이벤트를 커밋 직전에 outbox 테이블에 기록한다.
+ * 입찰/경매 변경과 같은 트랜잭션에 들어가므로 Kafka 장애가 트랜잭션을 막거나 이벤트를 잃게 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+    public static final String BID_PLACED = "BID_PLACED";
+    public static final String AUCTION_SCHEDULE_CHANGED = "AUCTION_SCHEDULE_CHANGED";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        record(KafkaConfig.BID_EVENTS_TOPIC, event.auctionId(), BID_PLACED, event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(AuctionScheduleChangedEvent event) {
+        record(KafkaConfig.AUCTION_EVENTS_TOPIC, event.auctionId(), AUCTION_SCHEDULE_CHANGED, event);
+    }
+
+    private void record(String topic, UUID auctionId, String eventType, Object event) {
+        try {
+            outboxEventRepository.save(OutboxEvent.of(topic, auctionId, eventType, objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            // 기록하지 못한 이벤트는 유실되므로 도메인 변경도 함께 롤백한다
+            throw new IllegalStateException("outbox 이벤트 직렬화에 실패했습니다: " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.bidket.auction.application.outbox;
+
+import com.bidket.auction.domain.outbox.model.OutboxEvent;
+import com.bidket.auction.domain.outbox.repository.OutboxEventRepository;
+import com.bidket.auction.infrastructure.redis.ShardLeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 테이블의 이벤트를 기록 순서대로 묶어 Kafka 로 발행한다.
+ * - 리더 노드만 실행하므로 같은 경매의 이벤트가 여러 노드에서 섞여 발행되지 않는다.
+ * - 배치 전체를 보낸 뒤 한 번에 기다리므로 프로듀서의 linger/batch 설정으로 묶여 전송된다.
+ * - 앞에서부터 연속으로 성공한 이벤트만 삭제한다. 실패 이후 이벤트는 다음 주기에 다시 보내므로 순서는 유지되고 중복은 있을 수 있다(at-least-once).
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_BATCHES_PER_TICK = 10;
+    private static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ShardLeaseManager shardLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer publishDelay;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+                       ShardLeaseManager shardLeaseManager,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${bidket.outbox.batch-size:500}") int batchSize,
+                       @Value("${bidket.outbox.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.shardLeaseManager = shardLeaseManager;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = Duration.ofMillis(sendTimeoutMillis);
+
+        this.publishedCounter = Counter.builder("bidket.outbox.published")
+                .description("Kafka 로 발행된 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("bidket.outbox.failed")
+                .description("발행에 실패해 다음 주기로 넘어간 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.publishDelay = Timer.builder("bidket.outbox.publish.delay")
+                .description("outbox 기록부터 Kafka 발행 확인까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("bidket.outbox.pending", pending, AtomicLong::get)
+                .description("발행 대기 중인 outbox 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("bidket.outbox.lag.seconds", lagMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 발행 대기 이벤트의 경과 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${bidket.outbox.relay-interval-ms:100}")
+    public void relay() {
+        if (!shardLeaseManager.isLeader()) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_TICK; i++) {
+                int published = publishBatch();
+                if (published < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            updateLag();
+        }
+    }
+
+    /**
+     * 한 배치를 발행하고 삭제한 이벤트 수를 반환한다. 실패가 있으면 배치 크기보다 작은 값을 돌려 이번 주기를 멈춘다.
+     */
+    int publishBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findOldest(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(send(event));
+        }
+        kafkaTemplate.flush();
+
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        LocalDateTime now = LocalDateTime.now();
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            if (!awaitSent(event, futures.get(i), deadline)) {
+                failedCounter.increment(events.size() - i);
+                break;
+            }
+            publishedIds.add(event.getId());
+            publishDelay.record(Duration.between(event.getOccurredAt(), now));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteByIds(publishedIds));
+        publishedCounter.increment(publishedIds.size());
+
+        log.debug("outbox 이벤트 발행: {} 건 (대상: {} 건)", publishedIds.size(), events.size());
+        return publishedIds.size() < events.size() ? 0 : publishedIds.size();
+    }
+
+    private CompletableFuture<SendResult<String, String>> send(OutboxEvent event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                event.getTopic(), event.getAggregateId().toString(), event.getPayload());
+        record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        try {
+            return kafkaTemplate.send(record);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean awaitSent(OutboxEvent event, CompletableFuture<SendResult<String, String>> future, long deadline) {
+        try {
+            future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("outbox 이벤트 발행 실패 - id: {}, 토픽: {}, 사유: {}", event.getId(), event.getTopic(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void updateLag() {
+        try {
+            pending.set(outboxEventRepository.count());
+            lagMillis.set(outboxEventRepository.findOldestOccurredAt()
+                    .map(oldest -> Math.max(Duration.between(oldest, LocalDateTime.now()).toMillis(), 0))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("outbox 지연 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
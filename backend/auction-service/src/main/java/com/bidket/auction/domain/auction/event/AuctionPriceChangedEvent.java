@@ -0,0 +1,15 @@
+package com.bidket.auction.domain.auction.event;
+
+import java.util.UUID;
+
+/**
+ * 새 최고가 입찰로 경매의 현재가와 최고 입찰자가 바뀌었음을 알린다. 실시간 경매 스트림과 outbox 가 구독한다.
+ */
+public record AuctionPriceChangedEvent(
+        UUID auctionId,
+        UUID bidId,
+        Long currentPrice,
+        UUID highestBidderId,
+        Integer totalBidsCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.bidket.auction.domain.auction.event;
+
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 경매의 상태 또는 시작/종료 시각이 바뀌었음을 알린다. 라이프사이클 엔진이 예약을 갱신하는 데 사용한다.
+ */
+public record AuctionScheduleChangedEvent(
+        UUID auctionId,
+        AuctionStatus status,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
@@ -1,7 +1,10 @@
 package com.bidket.auction.domain.auction.model;
 
+import com.bidket.auction.domain.auction.event.AuctionPriceChangedEvent;
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
 import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
 import com.bidket.auction.domain.auction.model.vo.AuctionStats;
+import com.bidket.auction.domain.auction.model.vo.HighestBid;
 import com.bidket.auction.domain.auction.model.vo.PriceInfo;
 import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
 import com.bidket.common.infra.BaseEntity;
@@ -15,17 +18,23 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "auction", indexes = {
     @Index(name = "idx_auction_status_end", columnList = "status, end_time"),
+    @Index(name = "idx_auction_status_start", columnList = "status, start_time"),
     @Index(name = "idx_auction_seller", columnList = "seller_id"),
     @Index(name = "idx_auction_product_size", columnList = "product_size_id"),
     @Index(name = "idx_auction_winner", columnList = "winner_id")
@@ -66,6 +75,9 @@ public class Auction extends BaseEntity {
     @Embedded
     private AuctionStats stats;
 
+    @Embedded
+    private HighestBid highestBid;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private AuctionStatus status;
@@ -73,6 +85,10 @@ public class Auction extends BaseEntity {
     @Version
     private Long version;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<Object> domainEvents = new ArrayList<>();
+
     // ===== Private 생성자 =====
     private Auction(UUID id, UUID productSizeId, UUID sellerId, String auctionTitle,
                     String description, AuctionCondition condition, PriceInfo priceInfo,
@@ -88,6 +104,7 @@ public class Auction extends BaseEntity {
         this.period = period;
         this.winnerInfo = winnerInfo;
         this.stats = stats;
+        this.highestBid = HighestBid.empty();
         this.status = status;
         this.version = version;
     }
@@ -336,6 +353,7 @@ public class Auction extends BaseEntity {
             throw new IllegalStateException("CREATING 상태에서만 생성을 확정할 수 있습니다");
         }
         this.status = AuctionStatus.PENDING;
+        registerScheduleChanged();
     }
 
     public void start() {
@@ -343,11 +361,13 @@ public class Auction extends BaseEntity {
             throw new IllegalStateException("PENDING 상태에서만 시작할 수 있습니다");
         }
         this.status = AuctionStatus.ACTIVE;
+        registerScheduleChanged();
     }
 
     public void cancel() {
         if (this.status == AuctionStatus.PENDING) {
             this.status = AuctionStatus.CANCELLED;
+            registerScheduleChanged();
             return;
         }
 
@@ -356,6 +376,7 @@ public class Auction extends BaseEntity {
                 throw new IllegalStateException("입찰이 있는 경매는 취소할 수 없습니다");
             }
             this.status = AuctionStatus.CANCELLED;
+            registerScheduleChanged();
             return;
         }
 
@@ -368,6 +389,7 @@ public class Auction extends BaseEntity {
         }
 
         this.status = hasBids ? AuctionStatus.SUCCESS : AuctionStatus.EXPIRED;
+        registerScheduleChanged();
     }
 
     public void extend() {
@@ -375,6 +397,7 @@ public class Auction extends BaseEntity {
             throw new IllegalStateException("ACTIVE 상태에서만 연장할 수 있습니다");
         }
         this.period = this.period.extend();
+        registerScheduleChanged();
     }
 
     public void setWinner(UUID winnerId, UUID winningBidId, Long finalPrice) {
@@ -392,6 +415,7 @@ public class Auction extends BaseEntity {
         this.winnerInfo = WinnerInfo.empty();
         this.period = this.period.withReopenedEndTime(LocalDateTime.now().plusDays(1));
         this.status = AuctionStatus.ACTIVE;
+        registerScheduleChanged();
     }
 
     public void updateCurrentPrice(Long newPrice) {
@@ -402,6 +426,62 @@ public class Auction extends BaseEntity {
         this.stats = this.stats.incrementBidCount();
     }
 
+    public void recordHighestBid(UUID bidId, UUID bidderId, Long amount) {
+        recordHighestBid(bidId, bidderId, amount, LocalDateTime.now());
+    }
+
+    /**
+     * 새 최고가 입찰을 반영한다. 현재가, 입찰 수, 최고가 입찰 포인터가 같은 행에서 함께 바뀌며,
+     * 종료 직전 입찰이면 종료 시각 연장도 같은 변경에 포함된다(연장 시 예약 변경 이벤트 등록).
+     *
+     * @param bidTime 입찰이 수락된 시각. write-behind 처럼 늦게 반영되는 경우에도 수락 시각으로 연장 여부를 판단한다.
+     */
+    public void recordHighestBid(UUID bidId, UUID bidderId, Long amount, LocalDateTime bidTime) {
+        updateCurrentPrice(amount);
+        this.highestBid = HighestBid.of(bidId, bidderId, amount);
+        this.domainEvents.add(new AuctionPriceChangedEvent(
+                this.id, bidId, this.priceInfo.getCurrentPrice(), bidderId, this.stats.getTotalBidsCount()));
+
+        if (this.period.shouldExtendAt(bidTime)) {
+            extend();
+        }
+    }
+
+    /**
+     * write-behind 반영보다 종료 처리가 먼저 커밋된 경매에, 종료 시각 이전에 수락된 입찰을 반영한다.
+     * 종료 직전 입찰이면 기록된 종료 시각도 수락 당시처럼 연장해 이어지는 입찰도 판단할 수 있게 하고,
+     * 입찰이 없어 유찰로 끝났던 경매는 낙찰로 바로잡는다.
+     *
+     * @return 종료 시각이 지난 뒤 수락된 입찰이라 반영하지 않았으면 false
+     */
+    public boolean recordLateBid(UUID bidId, UUID bidderId, Long amount, LocalDateTime bidTime) {
+        if (this.status != AuctionStatus.SUCCESS && this.status != AuctionStatus.EXPIRED) {
+            throw new IllegalStateException("종료된 경매에만 늦게 반영되는 입찰을 기록할 수 있습니다");
+        }
+        if (bidTime.isAfter(this.period.getEndTime())) {
+            return false;
+        }
+
+        this.priceInfo = this.priceInfo.withUpdatedCurrentPrice(amount);
+        this.stats = this.stats.incrementBidCount();
+        this.highestBid = HighestBid.of(bidId, bidderId, amount);
+        this.domainEvents.add(new AuctionPriceChangedEvent(
+                this.id, bidId, this.priceInfo.getCurrentPrice(), bidderId, this.stats.getTotalBidsCount()));
+
+        if (this.period.shouldExtendAt(bidTime)) {
+            this.period = this.period.extend();
+        }
+        if (this.status == AuctionStatus.EXPIRED) {
+            this.status = AuctionStatus.SUCCESS;
+            registerScheduleChanged();
+        }
+        return true;
+    }
+
+    public UUID getHighestBidId() {
+        return highestBid != null ? highestBid.getBidId() : null;
+    }
+
     public void update(String auctionTitle, String description,
                       LocalDateTime startTime, LocalDateTime endTime, Long buyNowPrice) {
         if (this.status != AuctionStatus.PENDING) {
@@ -416,6 +496,7 @@ public class Auction extends BaseEntity {
         }
         if (startTime != null || endTime != null) {
             this.period = this.period.withUpdatedTimes(startTime, endTime);
+            registerScheduleChanged();
         }
         if (buyNowPrice != null) {
             this.priceInfo = this.priceInfo.withBuyNowPrice(buyNowPrice);
@@ -431,6 +512,22 @@ public class Auction extends BaseEntity {
     public boolean isEnded() {
         return period != null && period.isEnded();
     }
+
+    // ===== 도메인 이벤트 (repository.save 시 발행) =====
+    private void registerScheduleChanged() {
+        this.domainEvents.add(new AuctionScheduleChangedEvent(
+                this.id, this.status, this.period.getStartTime(), this.period.getEndTime()));
+    }
+
+    @DomainEvents
+    protected List<Object> domainEvents() {
+        return List.copyOf(this.domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    protected void clearDomainEvents() {
+        this.domainEvents.clear();
+    }
 }
 
 
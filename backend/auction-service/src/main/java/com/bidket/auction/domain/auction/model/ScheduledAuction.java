@@ -0,0 +1,14 @@
+package com.bidket.auction.domain.auction.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 큐 복구에 필요한 경매 한 건의 일정. 엔티티 대신 id 와 시각만 읽는다.
+ */
+public record ScheduledAuction(
+        UUID id,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
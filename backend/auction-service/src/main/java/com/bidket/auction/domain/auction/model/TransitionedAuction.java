@@ -0,0 +1,15 @@
+package com.bidket.auction.domain.auction.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 일괄 상태 전이(UPDATE ... RETURNING)로 바뀐 경매 한 건의 결과.
+ */
+public record TransitionedAuction(
+        UUID id,
+        AuctionStatus status,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
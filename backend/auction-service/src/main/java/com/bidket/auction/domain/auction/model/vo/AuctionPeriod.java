@@ -29,8 +29,10 @@ public class AuctionPeriod {
     @Column(nullable = false, name = "extension_count")
     private Integer extensionCount;
 
-    private static final int MAX_EXTENSIONS = 3;
-    private static final int EXTENSION_MINUTES = 5;
+    public static final int MAX_EXTENSIONS = 3;
+    public static final int EXTENSION_MINUTES = 5;
+    // 종료 전 이 시간 안에 들어온 입찰은 종료를 연장한다 (soft close)
+    public static final int SOFT_CLOSE_WINDOW_MINUTES = 5;
 
     public static AuctionPeriod createDefault(LocalDateTime startTime, LocalDateTime endTime) {
         return AuctionPeriod.builder()
@@ -81,7 +83,20 @@ public class AuctionPeriod {
     }
 
     public boolean isNearEnd() {
-        return LocalDateTime.now().isAfter(this.endTime.minusMinutes(5));
+        return isNearEnd(LocalDateTime.now());
+    }
+
+    public boolean isNearEnd(LocalDateTime at) {
+        return at.isAfter(this.endTime.minusMinutes(SOFT_CLOSE_WINDOW_MINUTES));
+    }
+
+    /**
+     * 종료 직전 구간에 들어온 입찰이고 연장 횟수가 남아 있으면 연장 대상이다. 이미 끝난 뒤의 입찰은 연장하지 않는다.
+     */
+    public boolean shouldExtendAt(LocalDateTime bidTime) {
+        return this.extensionCount < MAX_EXTENSIONS
+                && isNearEnd(bidTime)
+                && !bidTime.isAfter(this.endTime);
     }
 
     public boolean isEnded() {
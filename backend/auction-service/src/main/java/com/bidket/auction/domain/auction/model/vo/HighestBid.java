@@ -0,0 +1,47 @@
+package com.bidket.auction.domain.auction.model.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 경매의 현재 최고가 입찰 포인터. 현재가(PriceInfo.currentPrice)와 같은 UPDATE 로 갱신된다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HighestBid {
+
+    @Column(name = "highest_bid_id")
+    private UUID bidId;
+
+    @Column(name = "highest_bidder_id")
+    private UUID bidderId;
+
+    @Column(name = "highest_bid_amount")
+    private Long amount;
+
+    public static HighestBid empty() {
+        return new HighestBid(null, null, null);
+    }
+
+    public static HighestBid of(UUID bidId, UUID bidderId, Long amount) {
+        return HighestBid.builder()
+                .bidId(bidId)
+                .bidderId(bidderId)
+                .amount(amount)
+                .build();
+    }
+
+    public boolean exists() {
+        return bidId != null;
+    }
+}
@@ -2,9 +2,13 @@ package com.bidket.auction.domain.auction.repository;
 
 import com.bidket.auction.domain.auction.model.Auction;
 import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.ScheduledAuction;
+import com.bidket.auction.domain.auction.model.TransitionedAuction;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +22,9 @@ public interface AuctionRepository {
 
     List<Auction> findByStatus(AuctionStatus status);
 
+    // status 인 경매의 일정만 id 순 keyset 으로 limit 건 조회한다 (afterId 가 null 이면 처음부터)
+    List<ScheduledAuction> findSchedules(AuctionStatus status, UUID afterId, int limit);
+
     List<Auction> findActiveAuctionsEndingBefore(LocalDateTime dateTime);
 
     List<Auction> findPendingAuctionsStartingBefore(LocalDateTime dateTime);
@@ -27,6 +34,21 @@ public interface AuctionRepository {
     boolean existsById(UUID id);
 
     int updateViewCount(UUID auctionId, Integer viewCount);
+
+    List<UUID> updateViewCounts(Map<UUID, Integer> viewCounts);
+
+    // 경매 ID → 최고가 입찰 ID (최고가 입찰이 없는 경매는 포함하지 않는다)
+    Map<UUID, UUID> findHighestBidIds(Collection<UUID> auctionIds);
+
+    // ===== 일괄 상태 전이: 조건(status, 시각)을 만족하는 행만 전이하고 전이된 행을 반환한다 =====
+
+    List<TransitionedAuction> startAuctions(Collection<UUID> auctionIds, LocalDateTime now);
+
+    List<TransitionedAuction> endAuctions(Collection<UUID> auctionIds, LocalDateTime now);
+
+    List<TransitionedAuction> startDueAuctions(LocalDateTime now, UUID afterId, int limit);
+
+    List<TransitionedAuction> endDueAuctions(LocalDateTime now, UUID afterId, int limit);
 }
 
 
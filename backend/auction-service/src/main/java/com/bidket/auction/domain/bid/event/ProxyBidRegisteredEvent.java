@@ -0,0 +1,15 @@
+package com.bidket.auction.domain.bid.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 자동 입찰 상한이 접수되었음을 알린다. 입찰 트랜잭션이 커밋된 뒤에만 상한 저장소에 반영된다.
+ */
+public record ProxyBidRegisteredEvent(
+        UUID auctionId,
+        UUID bidderId,
+        Long maxAmount,
+        LocalDateTime endTime
+) {
+}
@@ -15,8 +15,9 @@ import java.util.UUID;
 @Table(name = "bid", indexes = {
     @Index(name = "idx_bid_auction_created", columnList = "auction_id, created_at"),
     @Index(name = "idx_bid_bidder", columnList = "bidder_id, created_at"),
-    @Index(name = "idx_bid_auction_highest", columnList = "auction_id, is_highest"),
-    @Index(name = "idx_bid_status", columnList = "status")
+    @Index(name = "idx_bid_status", columnList = "status"),
+    // 파티션 테이블의 UNIQUE 제약은 파티션 키를 포함해야 하므로 일반 인덱스로 두고, 유일성은 bid_idempotency 가 보장한다
+    @Index(name = "idx_bid_idempotency", columnList = "idempotency_key")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -58,6 +59,26 @@ public class Bid extends BaseEntity {
         return bidAmount != null ? bidAmount.isHighest() : false;
     }
 
+    /**
+     * 최고가 여부는 경매의 최고가 입찰 포인터로 판단한다. 포인터가 없는 이전 데이터는 저장된 플래그를 따른다.
+     */
+    public boolean isHighestAgainst(UUID highestBidId) {
+        if (highestBidId == null) {
+            return isHighest();
+        }
+        return highestBidId.equals(this.id);
+    }
+
+    /**
+     * 입찰 행은 추가만 되므로 ACTIVE 로 남아 있는 입찰이 최고가가 아니면 OUTBID 로 본다.
+     */
+    public BidStatus resolveStatus(UUID highestBidId) {
+        if (this.status == BidStatus.ACTIVE && !isHighestAgainst(highestBidId)) {
+            return BidStatus.OUTBID;
+        }
+        return this.status;
+    }
+
     public Integer getRank() {
         return bidAmount != null ? bidAmount.getRank() : null;
     }
@@ -218,7 +239,11 @@ public class Bid extends BaseEntity {
     }
 
     public void cancel() {
-        if (this.isHighest()) {
+        cancel(null);
+    }
+
+    public void cancel(UUID highestBidId) {
+        if (this.isHighestAgainst(highestBidId)) {
             throw new IllegalStateException("최고가 입찰은 취소할 수 없습니다");
         }
         this.status = BidStatus.CANCELLED;
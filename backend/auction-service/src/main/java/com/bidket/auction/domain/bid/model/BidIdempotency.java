@@ -0,0 +1,31 @@
+package com.bidket.auction.domain.bid.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 와 입찰의 대응. 파티션된 bid 테이블에는 키만으로 UNIQUE 제약을 걸 수 없으므로
+ * 파티션하지 않은 이 테이블의 기본 키로 같은 키의 입찰이 두 번 커밋되지 않게 한다.
+ * 입찰 행과 같은 트랜잭션에서 추가한다.
+ */
+@Entity
+@Table(name = "bid_idempotency")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BidIdempotency {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, name = "bid_id")
+    private UUID bidId;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+}
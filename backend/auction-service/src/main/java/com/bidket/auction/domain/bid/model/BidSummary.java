@@ -0,0 +1,35 @@
+package com.bidket.auction.domain.bid.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 입찰 이력 조회용 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+ */
+public record BidSummary(
+        UUID id,
+        UUID auctionId,
+        UUID bidderId,
+        Long amount,
+        boolean highest,
+        BidStatus status,
+        Integer rank,
+        UUID orderId,
+        LocalDateTime createdAt
+) {
+
+    // Bid.isHighestAgainst 와 같은 규칙: 포인터가 없는 이전 데이터는 저장된 플래그를 따른다
+    public boolean isHighestAgainst(UUID highestBidId) {
+        if (highestBidId == null) {
+            return highest;
+        }
+        return highestBidId.equals(id);
+    }
+
+    public BidStatus resolveStatus(UUID highestBidId) {
+        if (status == BidStatus.ACTIVE && !isHighestAgainst(highestBidId)) {
+            return BidStatus.OUTBID;
+        }
+        return status;
+    }
+}
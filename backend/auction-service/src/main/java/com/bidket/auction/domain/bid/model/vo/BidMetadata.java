@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class BidMetadata {
 
-    @Column(name = "idempotency_key", length = 100, unique = true)
+    @Column(name = "idempotency_key", length = 100)
     private String idempotencyKey;
 
     public static BidMetadata empty() {
@@ -2,9 +2,13 @@ package com.bidket.auction.domain.bid.repository;
 
 import com.bidket.auction.domain.bid.model.Bid;
 import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.model.BidSummary;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface BidRepository {
@@ -17,7 +21,11 @@ public interface BidRepository {
 
     List<Bid> findByBidderId(UUID bidderId);
 
-    Optional<Bid> findHighestBidByAuctionId(UUID auctionId);
+    // ===== (created_at, id) 내림차순 keyset 페이지. beforeCreatedAt/beforeId 가 null 이면 첫 페이지 =====
+
+    List<BidSummary> findSummariesByAuctionId(UUID auctionId, LocalDateTime beforeCreatedAt, UUID beforeId, int limit);
+
+    List<BidSummary> findSummariesByBidderId(UUID bidderId, LocalDateTime beforeCreatedAt, UUID beforeId, int limit);
 
     List<Bid> findByAuctionIdAndBidderId(UUID auctionId, UUID bidderId);
 
@@ -27,6 +35,13 @@ public interface BidRepository {
 
     Optional<Bid> findByIdempotencyKey(String idempotencyKey);
 
+    /**
+     * 입찰과 같은 트랜잭션에서 호출한다. 같은 키가 이미 있으면 DataIntegrityViolationException 이 발생한다.
+     */
+    void saveIdempotencyKey(String idempotencyKey, UUID bidId);
+
+    Set<String> findExistingIdempotencyKeys(Collection<String> idempotencyKeys);
+
     void delete(Bid bid);
 
     long countByAuctionId(UUID auctionId);
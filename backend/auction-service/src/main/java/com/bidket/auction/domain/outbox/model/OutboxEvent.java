@@ -0,0 +1,50 @@
+package com.bidket.auction.domain.outbox.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에 기록되는 발행 대기 이벤트. 릴레이가 Kafka 로 발행한 뒤 삭제한다.
+ * id 는 기록 순서를 따르는 시퀀스이며, 릴레이는 이 순서대로 발행한다.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    // Kafka 메시지 키. 같은 경매의 이벤트가 같은 파티션에 순서대로 쌓이도록 경매 ID 를 쓴다
+    @Column(nullable = false, name = "aggregate_id")
+    private UUID aggregateId;
+
+    @Column(nullable = false, name = "event_type", length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false, name = "occurred_at")
+    private LocalDateTime occurredAt;
+
+    public static OutboxEvent of(String topic, UUID aggregateId, String eventType, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.topic = topic;
+        event.aggregateId = aggregateId;
+        event.eventType = eventType;
+        event.payload = payload;
+        event.occurredAt = LocalDateTime.now();
+        return event;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bidket.auction.domain.outbox.repository;
+
+import com.bidket.auction.domain.outbox.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository {
+
+    OutboxEvent save(OutboxEvent event);
+
+    // 기록 순서(id 오름차순)로 가장 오래된 이벤트부터 조회
+    List<OutboxEvent> findOldest(int limit);
+
+    void deleteByIds(Collection<Long> ids);
+
+    long count();
+
+    Optional<LocalDateTime> findOldestOccurredAt();
+}
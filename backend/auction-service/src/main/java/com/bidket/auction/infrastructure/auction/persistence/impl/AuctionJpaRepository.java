@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +22,9 @@ public interface AuctionJpaRepository extends JpaRepository<Auction, UUID> {
 
     List<Auction> findByStatusAndPeriod_StartTimeBefore(AuctionStatus status, LocalDateTime dateTime);
 
+    @Query("SELECT a.id, a.highestBid.bidId FROM Auction a WHERE a.id IN :auctionIds AND a.highestBid.bidId IS NOT NULL")
+    List<Object[]> findHighestBidIds(@Param("auctionIds") Collection<UUID> auctionIds);
+
     @Modifying
     @Query(
             value = "UPDATE auction SET view_count = :viewCount WHERE id = :auctionId",
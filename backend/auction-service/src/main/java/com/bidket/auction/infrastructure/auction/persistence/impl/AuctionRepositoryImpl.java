@@ -2,20 +2,53 @@ package com.bidket.auction.infrastructure.auction.persistence.impl;
 
 import com.bidket.auction.domain.auction.model.Auction;
 import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.ScheduledAuction;
+import com.bidket.auction.domain.auction.model.TransitionedAuction;
 import com.bidket.auction.domain.auction.repository.AuctionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class AuctionRepositoryImpl implements AuctionRepository {
 
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    // 엔티티 경로와 같이 version 을 올려 동시에 엔티티를 수정 중인 트랜잭션이 낙관적 락으로 실패하도록 한다
+    private static final String START_ASSIGNMENT = "status = 'ACTIVE', version = version + 1";
+    private static final String END_ASSIGNMENT =
+            "status = CASE WHEN total_bids_count > 0 THEN 'SUCCESS' ELSE 'EXPIRED' END, version = version + 1";
+    private static final String RETURNING_CLAUSE = "RETURNING auction.id, auction.status, auction.start_time, auction.end_time";
+
+    private static final RowMapper<TransitionedAuction> TRANSITIONED_ROW_MAPPER = (rs, rowNum) -> new TransitionedAuction(
+            rs.getObject("id", UUID.class),
+            AuctionStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("start_time").toLocalDateTime(),
+            rs.getTimestamp("end_time").toLocalDateTime()
+    );
+
+    private static final RowMapper<ScheduledAuction> SCHEDULE_ROW_MAPPER = (rs, rowNum) -> new ScheduledAuction(
+            rs.getObject("id", UUID.class),
+            rs.getTimestamp("start_time").toLocalDateTime(),
+            rs.getTimestamp("end_time").toLocalDateTime()
+    );
+
     private final AuctionJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Auction save(Auction auction) {
@@ -37,6 +70,13 @@ public class AuctionRepositoryImpl implements AuctionRepository {
         return jpaRepository.findByStatus(status);
     }
 
+    @Override
+    public List<ScheduledAuction> findSchedules(AuctionStatus status, UUID afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, start_time, end_time FROM auction WHERE status = ? AND id > ? ORDER BY id LIMIT ?",
+                SCHEDULE_ROW_MAPPER, status.name(), keysetStart(afterId), limit);
+    }
+
     @Override
     public List<Auction> findActiveAuctionsEndingBefore(LocalDateTime dateTime) {
         return jpaRepository.findByStatusAndPeriod_EndTimeBefore(AuctionStatus.ACTIVE, dateTime);
@@ -61,6 +101,99 @@ public class AuctionRepositoryImpl implements AuctionRepository {
     public int updateViewCount(UUID auctionId, Integer viewCount) {
         return jpaRepository.updateViewCount(auctionId, viewCount);
     }
-}
 
+    /**
+     * 여러 경매의 조회수를 UPDATE ... FROM (VALUES ...) 한 문장으로 반영하고, 실제 갱신된 경매 ID 를 반환한다.
+     */
+    @Override
+    @Transactional
+    public List<UUID> updateViewCounts(Map<UUID, Integer> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return List.of();
+        }
 
+        StringBuilder values = new StringBuilder();
+        List<Object> args = new ArrayList<>(viewCounts.size() * 2);
+        for (Map.Entry<UUID, Integer> entry : viewCounts.entrySet()) {
+            if (!args.isEmpty()) {
+                values.append(", ");
+            }
+            values.append("(CAST(? AS uuid), CAST(? AS integer))");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+
+        String sql = "UPDATE auction a SET view_count = v.view_count " +
+                "FROM (VALUES " + values + ") AS v(id, view_count) " +
+                "WHERE a.id = v.id RETURNING a.id";
+        return jdbcTemplate.queryForList(sql, UUID.class, args.toArray());
+    }
+
+    @Override
+    public Map<UUID, UUID> findHighestBidIds(Collection<UUID> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findHighestBidIds(auctionIds).stream()
+                .collect(Collectors.toMap(row -> (UUID) row[0], row -> (UUID) row[1]));
+    }
+
+    @Override
+    public List<TransitionedAuction> startAuctions(Collection<UUID> auctionIds, LocalDateTime now) {
+        if (auctionIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "UPDATE auction SET " + START_ASSIGNMENT + " " +
+                "WHERE id IN (" + placeholders(auctionIds.size()) + ") AND status = 'PENDING' AND start_time <= ? " +
+                RETURNING_CLAUSE;
+        return jdbcTemplate.query(sql, TRANSITIONED_ROW_MAPPER, idsThen(auctionIds, Timestamp.valueOf(now)));
+    }
+
+    @Override
+    public List<TransitionedAuction> endAuctions(Collection<UUID> auctionIds, LocalDateTime now) {
+        if (auctionIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "UPDATE auction SET " + END_ASSIGNMENT + " " +
+                "WHERE id IN (" + placeholders(auctionIds.size()) + ") AND status = 'ACTIVE' AND end_time <= ? " +
+                RETURNING_CLAUSE;
+        return jdbcTemplate.query(sql, TRANSITIONED_ROW_MAPPER, idsThen(auctionIds, Timestamp.valueOf(now)));
+    }
+
+    /**
+     * 시작 시각이 지난 PENDING 경매를 id 순 keyset 배치로 전이한다. 다른 트랜잭션이 잡고 있는 행은 건너뛴다.
+     */
+    @Override
+    public List<TransitionedAuction> startDueAuctions(LocalDateTime now, UUID afterId, int limit) {
+        String sql = "UPDATE auction SET " + START_ASSIGNMENT + " " +
+                "FROM (SELECT id FROM auction WHERE status = 'PENDING' AND start_time <= ? AND id > ? " +
+                "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) due " +
+                "WHERE auction.id = due.id " +
+                RETURNING_CLAUSE;
+        return jdbcTemplate.query(sql, TRANSITIONED_ROW_MAPPER, Timestamp.valueOf(now), keysetStart(afterId), limit);
+    }
+
+    @Override
+    public List<TransitionedAuction> endDueAuctions(LocalDateTime now, UUID afterId, int limit) {
+        String sql = "UPDATE auction SET " + END_ASSIGNMENT + " " +
+                "FROM (SELECT id FROM auction WHERE status = 'ACTIVE' AND end_time <= ? AND id > ? " +
+                "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) due " +
+                "WHERE auction.id = due.id " +
+                RETURNING_CLAUSE;
+        return jdbcTemplate.query(sql, TRANSITIONED_ROW_MAPPER, Timestamp.valueOf(now), keysetStart(afterId), limit);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] idsThen(Collection<UUID> auctionIds, Object... trailing) {
+        List<Object> args = new ArrayList<>(auctionIds);
+        args.addAll(List.of(trailing));
+        return args.toArray();
+    }
+
+    private static UUID keysetStart(UUID afterId) {
+        return afterId != null ? afterId : MIN_UUID;
+    }
+}
@@ -0,0 +1,25 @@
+package com.bidket.auction.infrastructure.bid.persistence.impl;
+
+import com.bidket.auction.domain.bid.model.BidIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface BidIdempotencyJpaRepository extends JpaRepository<BidIdempotency, String> {
+
+    // save() 는 같은 키가 있으면 병합하므로, 키 충돌이 예외로 드러나도록 바로 INSERT 한다
+    @Modifying
+    @Query(
+            value = "INSERT INTO bid_idempotency (idempotency_key, bid_id, created_at) VALUES (:idempotencyKey, :bidId, now())",
+            nativeQuery = true
+    )
+    int insert(@Param("idempotencyKey") String idempotencyKey, @Param("bidId") UUID bidId);
+
+    @Query("SELECT i.idempotencyKey FROM BidIdempotency i WHERE i.idempotencyKey IN :keys")
+    List<String> findIdempotencyKeysIn(@Param("keys") Collection<String> keys);
+}
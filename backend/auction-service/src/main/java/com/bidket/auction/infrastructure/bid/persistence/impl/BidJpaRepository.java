@@ -2,19 +2,47 @@ package com.bidket.auction.infrastructure.bid.persistence.impl;
 
 import com.bidket.auction.domain.bid.model.Bid;
 import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.model.BidSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface BidJpaRepository extends JpaRepository<Bid, UUID> {
 
+    String SUMMARY_SELECT = "SELECT new com.bidket.auction.domain.bid.model.BidSummary(" +
+            "b.id, b.auctionId, b.bidderId, b.bidAmount.amount, b.bidAmount.highest, b.status, " +
+            "b.bidAmount.rank, b.bidResult.orderId, b.createdAt) FROM Bid b ";
+
+    String KEYSET_CONDITION = "(b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))";
+
     List<Bid> findByAuctionIdOrderByCreatedAtDesc(UUID auctionId);
 
     List<Bid> findByBidderIdOrderByCreatedAtDesc(UUID bidderId);
 
-    Optional<Bid> findFirstByAuctionIdAndBidAmount_HighestTrue(UUID auctionId);
+    @Query(SUMMARY_SELECT + "WHERE b.auctionId = :auctionId ORDER BY b.createdAt DESC, b.id DESC")
+    List<BidSummary> findSummariesByAuctionId(@Param("auctionId") UUID auctionId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE b.auctionId = :auctionId AND " + KEYSET_CONDITION + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BidSummary> findSummariesByAuctionIdBefore(@Param("auctionId") UUID auctionId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") UUID id,
+                                                    Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE b.bidderId = :bidderId ORDER BY b.createdAt DESC, b.id DESC")
+    List<BidSummary> findSummariesByBidderId(@Param("bidderId") UUID bidderId, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE b.bidderId = :bidderId AND " + KEYSET_CONDITION + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BidSummary> findSummariesByBidderIdBefore(@Param("bidderId") UUID bidderId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") UUID id,
+                                                   Limit limit);
 
     List<Bid> findByAuctionIdAndBidderId(UUID auctionId, UUID bidderId);
 
@@ -22,7 +50,10 @@ public interface BidJpaRepository extends JpaRepository<Bid, UUID> {
 
     boolean existsByAuctionIdAndBidderId(UUID auctionId, UUID bidderId);
 
-    Optional<Bid> findByBidMetadata_IdempotencyKey(String idempotencyKey);
+    Optional<Bid> findFirstByBidMetadata_IdempotencyKeyOrderByCreatedAtAsc(String idempotencyKey);
+
+    @Query("SELECT b.bidMetadata.idempotencyKey FROM Bid b WHERE b.bidMetadata.idempotencyKey IN :keys")
+    List<String> findIdempotencyKeysIn(@Param("keys") Collection<String> keys);
 
     long countByAuctionId(UUID auctionId);
 }
@@ -2,12 +2,18 @@ package com.bidket.auction.infrastructure.bid.persistence.impl;
 
 import com.bidket.auction.domain.bid.model.Bid;
 import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.model.BidSummary;
 import com.bidket.auction.domain.bid.repository.BidRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -15,6 +21,7 @@ import java.util.UUID;
 public class BidRepositoryImpl implements BidRepository {
 
     private final BidJpaRepository bidJpaRepository;
+    private final BidIdempotencyJpaRepository bidIdempotencyJpaRepository;
 
     @Override
     public Bid save(Bid bid) {
@@ -37,8 +44,19 @@ public class BidRepositoryImpl implements BidRepository {
     }
 
     @Override
-    public Optional<Bid> findHighestBidByAuctionId(UUID auctionId) {
-        return bidJpaRepository.findFirstByAuctionIdAndBidAmount_HighestTrue(auctionId);
+    public List<BidSummary> findSummariesByAuctionId(UUID auctionId, LocalDateTime beforeCreatedAt, UUID beforeId, int limit) {
+        if (beforeCreatedAt == null || beforeId == null) {
+            return bidJpaRepository.findSummariesByAuctionId(auctionId, Limit.of(limit));
+        }
+        return bidJpaRepository.findSummariesByAuctionIdBefore(auctionId, beforeCreatedAt, beforeId, Limit.of(limit));
+    }
+
+    @Override
+    public List<BidSummary> findSummariesByBidderId(UUID bidderId, LocalDateTime beforeCreatedAt, UUID beforeId, int limit) {
+        if (beforeCreatedAt == null || beforeId == null) {
+            return bidJpaRepository.findSummariesByBidderId(bidderId, Limit.of(limit));
+        }
+        return bidJpaRepository.findSummariesByBidderIdBefore(bidderId, beforeCreatedAt, beforeId, Limit.of(limit));
     }
 
     @Override
@@ -58,7 +76,25 @@ public class BidRepositoryImpl implements BidRepository {
 
     @Override
     public Optional<Bid> findByIdempotencyKey(String idempotencyKey) {
-        return bidJpaRepository.findByBidMetadata_IdempotencyKey(idempotencyKey);
+        // bid_idempotency 도입 전에 저장된 입찰은 입찰 행의 키로 찾는다
+        return bidIdempotencyJpaRepository.findById(idempotencyKey)
+                .flatMap(mapping -> bidJpaRepository.findById(mapping.getBidId()))
+                .or(() -> bidJpaRepository.findFirstByBidMetadata_IdempotencyKeyOrderByCreatedAtAsc(idempotencyKey));
+    }
+
+    @Override
+    public void saveIdempotencyKey(String idempotencyKey, UUID bidId) {
+        bidIdempotencyJpaRepository.insert(idempotencyKey, bidId);
+    }
+
+    @Override
+    public Set<String> findExistingIdempotencyKeys(Collection<String> idempotencyKeys) {
+        if (idempotencyKeys.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = new HashSet<>(bidIdempotencyJpaRepository.findIdempotencyKeysIn(idempotencyKeys));
+        existing.addAll(bidJpaRepository.findIdempotencyKeysIn(idempotencyKeys));
+        return existing;
     }
 
     @Override
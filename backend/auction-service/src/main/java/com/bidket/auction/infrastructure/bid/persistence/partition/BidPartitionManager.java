@@ -0,0 +1,192 @@
+package com.bidket.auction.infrastructure.bid.persistence.partition;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 입찰 원장(bid) 테이블을 created_at 기준 월 단위 RANGE 파티션으로 관리한다.
+ * - 신규 입찰은 당월 파티션에만 들어가므로 인덱스가 작은 파티션에 머문다.
+ * - 앞으로 months-ahead 개월의 파티션을 미리 만들고, 보관 기간이 지난 파티션은 분리(DETACH) 후 bid_archive_* 로 이름을 바꿔 둔다.
+ * - 파티션 테이블이 아닌 기존 bid 테이블은 당월까지를 덮는 bid_legacy_until_{yyyyMM} 파티션으로 붙인다.
+ * 컬럼은 Hibernate 스키마 갱신이 채우므로 부모 테이블은 파티션 키와 기본 키만으로 만든다.
+ * 기동 시 점검은 모든 레플리카가 동시에 수행하므로 advisory lock 을 잡은 한 트랜잭션 안에서 테이블 상태를 확인하고 전환한다.
+ */
+@Slf4j
+@Component
+public class BidPartitionManager {
+
+    public static final String TABLE = "bid";
+    private static final String PARTITION_PREFIX = "bid_p";
+    private static final String LEGACY_PREFIX = "bid_legacy_until_";
+    private static final String ARCHIVE_PREFIX = "bid_archive_";
+    private static final String DEFAULT_PARTITION = "bid_p_default";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String INITIALIZE_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('" + TABLE + "_partition'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public BidPartitionManager(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${bidket.bid.ledger.months-ahead:3}") int monthsAhead,
+                               @Value("${bidket.bid.ledger.retention-months:12}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * 먼저 기동한 레플리카가 전환을 끝내고 커밋할 때까지 나머지는 락에서 기다리고,
+     * 락을 얻은 뒤 테이블 상태를 다시 읽으므로 이미 전환된 테이블을 또 전환하지 않는다.
+     */
+    @PostConstruct
+    public void initialize() {
+        YearMonth current = YearMonth.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(INITIALIZE_LOCK_SQL);
+            ensurePartitionedTable(current);
+            createUpcomingPartitions(current);
+        });
+    }
+
+    /**
+     * current 부터 months-ahead 개월 뒤까지 없는 파티션을 만든다.
+     */
+    public void createUpcomingPartitions(YearMonth current) {
+        Set<String> existing = new HashSet<>(partitionNames());
+        YearMonth legacyUpperBound = existing.stream()
+                .filter(name -> name.startsWith(LEGACY_PREFIX))
+                .map(name -> parseMonth(name.substring(LEGACY_PREFIX.length())))
+                .filter(Objects::nonNull)
+                .max(YearMonth::compareTo)
+                .orElse(null);
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+            if (existing.contains(name) || (legacyUpperBound != null && month.isBefore(legacyUpperBound))) {
+                continue;
+            }
+
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    name, TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+            log.info("입찰 원장 파티션 생성: {}", name);
+        }
+    }
+
+    /**
+     * 상한이 current - retention-months 이하인 파티션을 분리하고 보관용 이름으로 바꾼다.
+     *
+     * @return 분리한 파티션 수
+     */
+    public int detachExpiredPartitions(YearMonth current) {
+        YearMonth cutoff = current.minusMonths(retentionMonths);
+        int detached = 0;
+
+        for (String name : partitionNames()) {
+            YearMonth upperBound = upperBound(name);
+            if (upperBound == null || upperBound.isAfter(cutoff)) {
+                continue;
+            }
+
+            String archiveName = ARCHIVE_PREFIX + name.substring((TABLE + "_").length());
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + name);
+            jdbcTemplate.execute("ALTER TABLE " + name + " RENAME TO " + archiveName);
+            detached++;
+            log.info("입찰 원장 파티션 분리: {} -> {}", name, archiveName);
+        }
+        return detached;
+    }
+
+    private void ensurePartitionedTable(YearMonth current) {
+        String relkind = jdbcTemplate.query(
+                "SELECT c.relkind FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                "WHERE c.relname = ? AND n.nspname = current_schema()",
+                rs -> rs.next() ? rs.getString(1) : null,
+                TABLE);
+
+        if ("p".equals(relkind)) {
+            return;
+        }
+
+        if (relkind == null) {
+            jdbcTemplate.execute("CREATE TABLE " + TABLE + " (" +
+                    "id uuid NOT NULL, created_at timestamp(6) NOT NULL, PRIMARY KEY (id, created_at)" +
+                    ") PARTITION BY RANGE (created_at)");
+        } else {
+            migrateLegacyTable(current.plusMonths(1));
+        }
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+        log.info("입찰 원장 파티션 테이블 준비 완료 (기존 테이블: {})", relkind != null);
+    }
+
+    /**
+     * 기존 bid 테이블을 upperBound 이전 구간의 파티션으로 붙인다. 한 DO 블록이라 전체가 원자적으로 적용된다.
+     * 인덱스 이름은 스키마 단위로 유일하므로 부모에 같은 이름의 인덱스가 생길 수 있게 _legacy 를 붙인다.
+     */
+    private void migrateLegacyTable(YearMonth upperBound) {
+        String legacy = LEGACY_PREFIX + upperBound.format(SUFFIX_FORMAT);
+        jdbcTemplate.execute(
+                "DO $$ DECLARE idx record; BEGIN " +
+                "ALTER TABLE " + TABLE + " RENAME TO " + legacy + "; " +
+                "FOR idx IN SELECT indexname FROM pg_indexes " +
+                "WHERE schemaname = current_schema() AND tablename = '" + legacy + "' LOOP " +
+                "EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.indexname, left(idx.indexname, 56) || '_legacy'); " +
+                "END LOOP; " +
+                "ALTER TABLE " + legacy + " ALTER COLUMN created_at SET NOT NULL; " +
+                "CREATE TABLE " + TABLE + " (LIKE " + legacy + " INCLUDING DEFAULTS, PRIMARY KEY (id, created_at)) " +
+                "PARTITION BY RANGE (created_at); " +
+                "ALTER TABLE " + TABLE + " ATTACH PARTITION " + legacy +
+                " FOR VALUES FROM (MINVALUE) TO ('" + upperBound.atDay(1) + "'); " +
+                "END $$");
+        log.warn("기존 입찰 테이블을 파티션으로 전환: {}", legacy);
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "JOIN pg_namespace n ON n.oid = p.relnamespace " +
+                "WHERE p.relname = ? AND n.nspname = current_schema()",
+                String.class,
+                TABLE);
+    }
+
+    // 파티션이 덮는 구간의 상한 월 (기본 파티션 등 이름 규칙에 맞지 않으면 null)
+    private YearMonth upperBound(String name) {
+        if (name.startsWith(LEGACY_PREFIX)) {
+            return parseMonth(name.substring(LEGACY_PREFIX.length()));
+        }
+        if (name.startsWith(PARTITION_PREFIX)) {
+            YearMonth month = parseMonth(name.substring(PARTITION_PREFIX.length()));
+            return month != null ? month.plusMonths(1) : null;
+        }
+        return null;
+    }
+
+    private YearMonth parseMonth(String suffix) {
+        try {
+            return YearMonth.parse(suffix, SUFFIX_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.bidket.auction.infrastructure.cache.serializer;
+
+import com.bidket.auction.application.auction.dto.response.AuctionResponse;
+import com.bidket.auction.domain.auction.model.AuctionCondition;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * auctions 캐시용 AuctionResponse 바이너리 직렬화.
+ * 필드를 추가/변경할 때는 SCHEMA_V1 을 유지한 채 새 버전을 추가하고 read 에서 두 버전을 모두 처리한다.
+ */
+public class AuctionResponseBinarySerializer extends VersionedBinaryRedisSerializer<AuctionResponse> {
+
+    private static final int SCHEMA_V1 = 1;
+
+    @Override
+    protected int schemaVersion() {
+        return SCHEMA_V1;
+    }
+
+    @Override
+    protected void write(AuctionResponse value, DataOutputStream out) throws IOException {
+        writeUuid(out, value.id());
+        writeUuid(out, value.productSizeId());
+        writeUuid(out, value.sellerId());
+        writeString(out, value.auctionTitle());
+        writeString(out, value.description());
+        writeEnum(out, value.condition());
+        writeLong(out, value.startPrice());
+        writeLong(out, value.currentPrice());
+        writeLong(out, value.bidIncrement());
+        writeLong(out, value.buyNowPrice());
+        writeEnum(out, value.status());
+        writeDateTime(out, value.startTime());
+        writeDateTime(out, value.endTime());
+        writeDateTime(out, value.originalEndTime());
+        writeInt(out, value.extensionCount());
+        writeUuid(out, value.winnerId());
+        writeUuid(out, value.winningBidId());
+        writeLong(out, value.finalPrice());
+        writeInt(out, value.totalBidsCount());
+        writeInt(out, value.viewCount());
+        writeDateTime(out, value.createdAt());
+        writeDateTime(out, value.updatedAt());
+    }
+
+    @Override
+    protected AuctionResponse read(int version, DataInputStream in) throws IOException {
+        if (version != SCHEMA_V1) {
+            return null;
+        }
+        return new AuctionResponse(
+                readUuid(in),
+                readUuid(in),
+                readUuid(in),
+                readString(in),
+                readString(in),
+                readEnum(in, AuctionCondition.class),
+                readLong(in),
+                readLong(in),
+                readLong(in),
+                readLong(in),
+                readEnum(in, AuctionStatus.class),
+                readDateTime(in),
+                readDateTime(in),
+                readDateTime(in),
+                readInt(in),
+                readUuid(in),
+                readUuid(in),
+                readLong(in),
+                readInt(in),
+                readInt(in),
+                readDateTime(in),
+                readDateTime(in)
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.bidket.auction.infrastructure.config;
+
+import com.bidket.auction.infrastructure.bid.persistence.partition.BidPartitionManager;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BidLedgerConfig {
+
+    /**
+     * Hibernate 스키마 갱신(ddl-auto) 전에 bid 파티션 테이블이 준비되도록 EntityManagerFactory 를 파티션 관리자 뒤에 초기화한다.
+     */
+    @Bean
+    public static BidPartitionDependsOnPostProcessor bidPartitionDependsOnPostProcessor() {
+        return new BidPartitionDependsOnPostProcessor();
+    }
+
+    static class BidPartitionDependsOnPostProcessor extends EntityManagerFactoryDependsOnPostProcessor {
+
+        BidPartitionDependsOnPostProcessor() {
+            super(BidPartitionManager.class);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.bidket.auction.infrastructure.config;
 
+import com.bidket.auction.infrastructure.cache.CacheInvalidationBus;
+import com.bidket.auction.infrastructure.cache.TwoTierCacheManager;
+import com.bidket.auction.infrastructure.cache.serializer.AuctionResponseBinarySerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -12,16 +17,30 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // 캐시 이름별로 사용할 수 있는 바이너리 직렬화. bidket.cache.binary.cache-names 에 포함된 캐시에만 적용된다
+    private static final Map<String, RedisSerializer<?>> BINARY_SERIALIZERS = Map.of(
+            "auctions", new AuctionResponseBinarySerializer()
+    );
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${bidket.cache.near.cache-names:auctions}") Set<String> nearCacheNames,
+                                     @Value("${bidket.cache.near.maximum-size:10000}") long maximumSize,
+                                     @Value("${bidket.cache.near.expire-after-write-ms:30000}") long expireAfterWriteMillis,
+                                     @Value("${bidket.cache.binary.cache-names:}") Set<String> binaryCacheNames) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -40,8 +59,28 @@ public class CacheConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(
                                 new GenericJackson2JsonRedisSerializer(objectMapper)));
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config);
+
+        for (String cacheName : binaryCacheNames) {
+            RedisSerializer<?> serializer = BINARY_SERIALIZERS.get(cacheName);
+            if (serializer == null) {
+                throw new IllegalStateException("바이너리 직렬화를 지원하지 않는 캐시입니다: " + cacheName);
+            }
+            builder.withCacheConfiguration(cacheName, config.serializeValuesWith(
+                    RedisSerializationContext.SerializationPair.fromSerializer(serializer)));
+        }
+
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoTierCacheManager(
+                redisCacheManager,
+                nearCacheNames,
+                maximumSize,
+                Duration.ofMillis(expireAfterWriteMillis),
+                cacheInvalidationBus,
+                meterRegistry
+        );
     }
 }
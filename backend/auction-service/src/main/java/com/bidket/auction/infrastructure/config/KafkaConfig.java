@@ -1,15 +1,27 @@
 package com.bidket.auction.infrastructure.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
 
+    public static final String AUCTION_EVENTS_TOPIC = "auction.events";
+    public static final String BID_EVENTS_TOPIC = "bid.events";
+    public static final String SAGA_COMPENSATION_TOPIC = "saga.compensation";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -22,7 +34,7 @@ public class KafkaConfig {
 
     @Bean
     public NewTopic auctionEventsTopic() {
-        return TopicBuilder.name("auction.events")
+        return TopicBuilder.name(AUCTION_EVENTS_TOPIC)
             .partitions(3)
             .replicas(1)
             .build();
@@ -30,7 +42,7 @@ public class KafkaConfig {
 
     @Bean
     public NewTopic bidEventsTopic() {
-        return TopicBuilder.name("bid.events")
+        return TopicBuilder.name(BID_EVENTS_TOPIC)
             .partitions(3)
             .replicas(1)
             .build();
@@ -38,10 +50,35 @@ public class KafkaConfig {
 
     @Bean
     public NewTopic sagaCompensationTopic() {
-        return TopicBuilder.name("saga.compensation")
+        return TopicBuilder.name(SAGA_COMPENSATION_TOPIC)
             .partitions(3)
             .replicas(1)
             .build();
     }
-}
 
+    /**
+     * outbox 릴레이용 프로듀서. payload 는 이미 JSON 문자열이므로 String 으로 보내고,
+     * 재시도로 인한 중복/순서 역전을 막기 위해 idempotent 프로듀서를 켠다.
+     */
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${bidket.outbox.producer.linger-ms:20}") int lingerMillis,
+            @Value("${bidket.outbox.producer.batch-size:65536}") int batchSize) {
+        Map<String, Object> configs = kafkaProperties.buildProducerProperties(null);
+        configs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configs.put(ProducerConfig.ACKS_CONFIG, "all");
+        configs.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configs.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE);
+        configs.put(ProducerConfig.LINGER_MS_CONFIG, lingerMillis);
+        configs.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        return new DefaultKafkaProducerFactory<>(configs);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate(ProducerFactory<String, String> outboxProducerFactory) {
+        return new KafkaTemplate<>(outboxProducerFactory);
+    }
+}
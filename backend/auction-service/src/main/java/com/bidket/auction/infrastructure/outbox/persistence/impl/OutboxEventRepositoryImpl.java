@@ -0,0 +1,46 @@
+package com.bidket.auction.infrastructure.outbox.persistence.impl;
+
+import com.bidket.auction.domain.outbox.model.OutboxEvent;
+import com.bidket.auction.domain.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        return outboxEventJpaRepository.save(event);
+    }
+
+    @Override
+    public List<OutboxEvent> findOldest(int limit) {
+        return outboxEventJpaRepository.findAllByOrderByIdAsc(Limit.of(limit));
+    }
+
+    @Override
+    public void deleteByIds(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboxEventJpaRepository.deleteByIdIn(ids);
+        }
+    }
+
+    @Override
+    public long count() {
+        return outboxEventJpaRepository.count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestOccurredAt() {
+        return Optional.ofNullable(outboxEventJpaRepository.findOldestOccurredAt());
+    }
+}
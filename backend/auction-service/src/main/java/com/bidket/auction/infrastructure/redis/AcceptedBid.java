@@ -0,0 +1,36 @@
+package com.bidket.auction.infrastructure.redis;
+
+import java.util.UUID;
+
+public record AcceptedBid(
+        UUID auctionId,
+        UUID bidderId,
+        Long amount,
+        long acceptedAtMillis,
+        long sequence,
+        String idempotencyKey
+) {
+    // 클라이언트 Idempotency-Key 에 구분자가 들어 있어도 깨지지 않도록 키는 마지막 필드로 둔다
+    public static AcceptedBid parse(String payload) {
+        String[] parts = payload.split("\\|", 6);
+        if (parts.length != 5 && parts.length != 6) {
+            throw new IllegalArgumentException("잘못된 write-behind 입찰 데이터: " + payload);
+        }
+        return new AcceptedBid(
+                UUID.fromString(parts[0]),
+                UUID.fromString(parts[1]),
+                Long.valueOf(parts[2]),
+                Long.parseLong(parts[3]),
+                Long.parseLong(parts[4]),
+                parts.length == 6 ? parts[5] : null
+        );
+    }
+
+    /**
+     * 입찰 행에 저장해 재전송을 걸러내는 키. 클라이언트 Idempotency-Key 가 있으면 그 키를 그대로 써서
+     * 응답 캐시가 만료된 뒤의 재시도도 입찰 행으로 원래 입찰을 찾을 수 있게 한다.
+     */
+    public String writeBehindKey() {
+        return idempotencyKey != null ? idempotencyKey : "wb:" + auctionId + ":" + sequence;
+    }
+}
@@ -0,0 +1,101 @@
+package com.bidket.auction.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 경매 시작/종료 예약 큐. 전이/샤드별 sorted set 에 auctionId 를 예정 시각(epoch ms) score 로 보관한다.
+ * claimDue 는 만기 항목의 score 를 재시도 시각으로 밀어 두는 방식으로 선점하므로,
+ * 처리 중 노드가 죽어도 재시도 시각이 지나면 다른 노드가 다시 가져간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionLifecycleQueue {
+
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<String>> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "for _, member in ipairs(due) do redis.call('ZADD', KEYS[1], ARGV[3], member) end " +
+            "return due",
+            (Class<List<String>>) (Class<?>) List.class
+    );
+
+    // 선점 이후 예약이 갱신되었으면(score 변경) 지우지 않는다
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if score and tonumber(score) == tonumber(ARGV[2]) then return redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuctionSharding sharding;
+
+    public void schedule(AuctionTransition transition, UUID auctionId, LocalDateTime dueAt) {
+        redisTemplate.opsForZSet().add(queueKey(transition, auctionId), auctionId.toString(), toEpochMillis(dueAt));
+        log.debug("경매 {} 예약: {} - {}", transition, auctionId, dueAt);
+    }
+
+    public void scheduleAll(AuctionTransition transition, Map<UUID, LocalDateTime> dueAtByAuction) {
+        if (dueAtByAuction.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            dueAtByAuction.forEach((auctionId, dueAt) ->
+                    stringConnection.zAdd(queueKey(transition, auctionId), toEpochMillis(dueAt), auctionId.toString()));
+            return null;
+        });
+    }
+
+    public void unschedule(AuctionTransition transition, UUID auctionId) {
+        redisTemplate.opsForZSet().remove(queueKey(transition, auctionId), auctionId.toString());
+    }
+
+    /**
+     * 만기된 항목을 최대 limit 개 선점한다. 선점된 항목은 ack 전까지 retryAtMillis 에 다시 만기된다.
+     */
+    public List<UUID> claimDue(AuctionTransition transition, int shard, long nowMillis, int limit, long retryAtMillis) {
+        List<String> due = redisTemplate.execute(
+                CLAIM_DUE_SCRIPT,
+                List.of(queueKey(transition, shard)),
+                Long.toString(nowMillis),
+                Integer.toString(limit),
+                Long.toString(retryAtMillis)
+        );
+        if (due == null || due.isEmpty()) {
+            return List.of();
+        }
+        return due.stream().map(UUID::fromString).toList();
+    }
+
+    public void ack(AuctionTransition transition, UUID auctionId, long claimedScore) {
+        redisTemplate.execute(ACK_SCRIPT, List.of(queueKey(transition, auctionId)),
+                auctionId.toString(), Long.toString(claimedScore));
+    }
+
+    private String queueKey(AuctionTransition transition, UUID auctionId) {
+        return queueKey(transition, sharding.shardOf(auctionId));
+    }
+
+    private String queueKey(AuctionTransition transition, int shard) {
+        return transition.queueKey() + ":" + shard;
+    }
+
+    private double toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,33 @@
+package com.bidket.auction.infrastructure.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 경매 ID 공간을 고정 개수의 샤드로 나눈다. 샤드 수를 바꾸면 예약 큐 키가 달라지므로 재기동 시 DB 에서 복구된다.
+ */
+@Component
+public class AuctionSharding {
+
+    public static final int LEADER_SHARD = 0;
+
+    private final int shardCount;
+
+    public AuctionSharding(@Value("${bidket.auction.shards.count:16}") int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(UUID auctionId) {
+        long bits = auctionId.getMostSignificantBits() ^ auctionId.getLeastSignificantBits();
+        return (int) Math.floorMod(bits ^ (bits >>> 32), (long) shardCount);
+    }
+}
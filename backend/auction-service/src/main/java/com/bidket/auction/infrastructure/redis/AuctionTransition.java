@@ -0,0 +1,16 @@
+package com.bidket.auction.infrastructure.redis;
+
+public enum AuctionTransition {
+    START("auction:lifecycle:start"),
+    END("auction:lifecycle:end");
+
+    private final String queueKey;
+
+    AuctionTransition(String queueKey) {
+        this.queueKey = queueKey;
+    }
+
+    public String queueKey() {
+        return queueKey;
+    }
+}
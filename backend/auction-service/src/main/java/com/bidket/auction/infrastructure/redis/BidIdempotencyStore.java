@@ -0,0 +1,52 @@
+package com.bidket.auction.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 별 입찰 결과를 짧은 TTL 로 보관한다.
+ * 처리 중에는 PENDING 표식을, 완료 후에는 응답 JSON 을 값으로 가지므로 재시도는 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+public class BidIdempotencyStore {
+
+    private static final String KEY_PREFIX = "bid:idempotency:";
+    public static final String PENDING = "PENDING";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration pendingTtl;
+    private final Duration resultTtl;
+
+    public BidIdempotencyStore(StringRedisTemplate redisTemplate,
+                               @Value("${bidket.bid.idempotency.pending-ttl-ms:10000}") long pendingTtlMillis,
+                               @Value("${bidket.bid.idempotency.result-ttl-ms:600000}") long resultTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.pendingTtl = Duration.ofMillis(pendingTtlMillis);
+        this.resultTtl = Duration.ofMillis(resultTtlMillis);
+    }
+
+    public Optional<String> find(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(KEY_PREFIX + key));
+    }
+
+    /**
+     * 처음 들어온 요청만 true 를 받는다. 처리 중 노드가 죽어도 pendingTtl 뒤에는 다시 시도할 수 있다.
+     */
+    public boolean reserve(String key) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, PENDING, pendingTtl));
+    }
+
+    public void complete(String key, String result) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, result, resultTtl);
+    }
+
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+}
@@ -0,0 +1,41 @@
+package com.bidket.auction.infrastructure.redis;
+
+/**
+ * 획득한 분산 락. fencingToken 은 같은 락 키에 대해 획득할 때마다 단조 증가하므로
+ * 보호 대상 저장소에 쓰기와 함께 전달하면 만료된 락 보유자의 쓰기를 거부할 수 있다.
+ */
+public class LockHandle implements AutoCloseable {
+
+    private final RedisLockService lockService;
+    private final String key;
+    private final String ownerId;
+    private final long fencingToken;
+
+    LockHandle(RedisLockService lockService, String key, String ownerId, long fencingToken) {
+        this.lockService = lockService;
+        this.key = key;
+        this.ownerId = ownerId;
+        this.fencingToken = fencingToken;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    String ownerId() {
+        return ownerId;
+    }
+
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    public boolean unlock() {
+        return lockService.release(this);
+    }
+
+    @Override
+    public void close() {
+        unlock();
+    }
+}
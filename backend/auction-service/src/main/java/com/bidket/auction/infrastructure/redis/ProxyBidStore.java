@@ -0,0 +1,91 @@
+package com.bidket.auction.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 경매별 자동 입찰 상한을 sorted set(auction:proxy:{auctionId}) 에 입찰자 ID, 상한 score 로 보관한다.
+ * 상위 몇 개만 읽으면 되므로 조회/갱신 모두 O(log n) 이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProxyBidStore {
+
+    private static final String KEY_PREFIX = "auction:proxy:";
+    private static final long RETENTION_MILLIS = 24 * 60 * 60 * 1000L;
+    // 제외할 입찰자 1명과 동점 비교를 위해 상위 3개를 읽는다
+    private static final int TOP_WINDOW = 3;
+
+    // 상한은 올리기만 한다
+    private static final RedisScript<Long> RAISE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "local raised = 0 " +
+            "if (not current) or tonumber(current) < tonumber(ARGV[2]) then " +
+            "  redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "  raised = 1 " +
+            "end " +
+            "redis.call('PEXPIREAT', KEYS[1], ARGV[3]) " +
+            "return raised",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean register(UUID auctionId, UUID bidderId, long ceiling, LocalDateTime endTime) {
+        long expireAt = endTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + RETENTION_MILLIS;
+        Long raised = redisTemplate.execute(
+                RAISE_SCRIPT,
+                List.of(key(auctionId)),
+                bidderId.toString(),
+                Long.toString(ceiling),
+                Long.toString(expireAt)
+        );
+        log.debug("자동 입찰 상한 등록 - 경매 ID: {}, 입찰자: {}, 상한: {}, 갱신: {}", auctionId, bidderId, ceiling, raised);
+        return raised != null && raised > 0;
+    }
+
+    /**
+     * excludedBidderId 를 뺀 가장 높은 상한을 찾는다. 동점이면 preferredBidderId(현재 최고 입찰자)를 우선한다.
+     */
+    public Optional<ProxyCeiling> findStrongestExcept(UUID auctionId, UUID excludedBidderId, UUID preferredBidderId) {
+        Set<ZSetOperations.TypedTuple<String>> top =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key(auctionId), 0, TOP_WINDOW - 1L);
+        if (top == null || top.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ProxyCeiling strongest = null;
+        for (ZSetOperations.TypedTuple<String> tuple : top) {
+            if (tuple.getValue() == null || tuple.getScore() == null) {
+                continue;
+            }
+            ProxyCeiling candidate = new ProxyCeiling(UUID.fromString(tuple.getValue()), tuple.getScore().longValue());
+            if (candidate.bidderId().equals(excludedBidderId)) {
+                continue;
+            }
+            if (strongest == null
+                    || candidate.ceiling() > strongest.ceiling()
+                    || (candidate.ceiling() == strongest.ceiling() && candidate.bidderId().equals(preferredBidderId))) {
+                strongest = candidate;
+            }
+        }
+        return Optional.ofNullable(strongest);
+    }
+
+    private String key(UUID auctionId) {
+        return KEY_PREFIX + auctionId;
+    }
+}
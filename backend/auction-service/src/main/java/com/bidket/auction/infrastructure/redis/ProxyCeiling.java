@@ -0,0 +1,12 @@
+package com.bidket.auction.infrastructure.redis;
+
+import java.util.UUID;
+
+/**
+ * 자동 입찰자가 허용한 최대 입찰가.
+ */
+public record ProxyCeiling(
+        UUID bidderId,
+        long ceiling
+) {
+}
@@ -0,0 +1,158 @@
+package com.bidket.auction.infrastructure.redis;
+
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 경매별 Redis 해시(auction:bid:{auctionId})에 대해 입찰 수락을 원자적으로 처리한다.
+ * 수락된 입찰은 같은 스크립트 안에서 write-behind 리스트에 적재되고, 종료 직전 입찰이면 endAt 도 함께 연장된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBidStore {
+
+    private static final String BID_STATE_KEY_PREFIX = "auction:bid:";
+    public static final String WRITE_BEHIND_KEY = "auction:bid:write-behind";
+    public static final String WRITE_BEHIND_DLQ_KEY = "auction:bid:write-behind:dlq";
+
+    public static final long RESULT_ACCEPTED = 1L;
+    public static final long RESULT_STATE_MISSING = -1L;
+    public static final long RESULT_NOT_ACTIVE = -2L;
+    public static final long RESULT_SELF_BID = -3L;
+    public static final long RESULT_AMOUNT_TOO_LOW = -4L;
+
+    // 수락 결과 {1, seq, extendedEndAt}: 종료 직전 입찰로 연장되었으면 extendedEndAt 은 새 종료 시각(epoch ms), 아니면 0
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> ACCEPT_BID_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1} end " +
+            "local state = redis.call('HMGET', KEYS[1], 'status', 'sellerId', 'currentPrice', 'bidIncrement', 'endAt', 'extensions') " +
+            "local now = tonumber(ARGV[3]) " +
+            "local endAt = tonumber(state[5]) " +
+            "if state[1] ~= 'ACTIVE' or now > endAt then return {-2} end " +
+            "if state[2] == ARGV[1] then return {-3} end " +
+            "local minimum = tonumber(state[3]) + tonumber(state[4]) " +
+            "if tonumber(ARGV[2]) < minimum then return {-4, minimum, tonumber(state[3]), tonumber(state[4])} end " +
+            "redis.call('HSET', KEYS[1], 'currentPrice', ARGV[2], 'highestBidderId', ARGV[1]) " +
+            "local seq = redis.call('HINCRBY', KEYS[1], 'sequence', 1) " +
+            "local entry = ARGV[4] .. '|' .. seq " +
+            "if ARGV[9] ~= '' then entry = entry .. '|' .. ARGV[9] end " +
+            "redis.call('RPUSH', KEYS[2], entry) " +
+            "local extended = 0 " +
+            "if endAt - now < tonumber(ARGV[5]) and (tonumber(state[6]) or 0) < tonumber(ARGV[7]) then " +
+            "  extended = endAt + tonumber(ARGV[6]) " +
+            "  redis.call('HSET', KEYS[1], 'endAt', string.format('%d', extended)) " +
+            "  redis.call('HINCRBY', KEYS[1], 'extensions', 1) " +
+            "  redis.call('PEXPIREAT', KEYS[1], string.format('%d', extended + tonumber(ARGV[8]))) " +
+            "end " +
+            "return {1, seq, extended}",
+            (Class<List<Long>>) (Class<?>) List.class
+    );
+
+    private static final RedisScript<Long> SEED_STATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'status', ARGV[1], 'sellerId', ARGV[2], 'currentPrice', ARGV[3], " +
+            "'bidIncrement', ARGV[4], 'endAt', ARGV[5], 'extensions', ARGV[7], 'sequence', 0) " +
+            "redis.call('PEXPIREAT', KEYS[1], ARGV[6]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 이미 적재된 상태만 갱신한다. 없으면 다음 입찰 때 DB 기준으로 다시 적재된다
+    private static final RedisScript<Long> UPDATE_STATUS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'status', ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private static final long STATE_RETENTION_MILLIS = 24 * 60 * 60 * 1000L;
+    private static final long SOFT_CLOSE_WINDOW_MILLIS = AuctionPeriod.SOFT_CLOSE_WINDOW_MINUTES * 60 * 1000L;
+    private static final long EXTENSION_MILLIS = AuctionPeriod.EXTENSION_MINUTES * 60 * 1000L;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * idempotencyKey 가 있으면 write-behind 항목 끝에 붙여 입찰 행의 키로 저장되게 한다.
+     */
+    public List<Long> tryAccept(UUID auctionId, UUID bidderId, Long amount, long nowMillis, String idempotencyKey) {
+        String payload = String.join("|", auctionId.toString(), bidderId.toString(),
+                amount.toString(), Long.toString(nowMillis));
+
+        List<Long> result = redisTemplate.execute(
+                ACCEPT_BID_SCRIPT,
+                List.of(stateKey(auctionId), WRITE_BEHIND_KEY),
+                bidderId.toString(),
+                amount.toString(),
+                Long.toString(nowMillis),
+                payload,
+                Long.toString(SOFT_CLOSE_WINDOW_MILLIS),
+                Long.toString(EXTENSION_MILLIS),
+                Integer.toString(AuctionPeriod.MAX_EXTENSIONS),
+                Long.toString(STATE_RETENTION_MILLIS),
+                idempotencyKey != null ? idempotencyKey : ""
+        );
+        return result;
+    }
+
+    public boolean seed(Auction auction) {
+        long endAt = toEpochMillis(auction);
+        Long seeded = redisTemplate.execute(
+                SEED_STATE_SCRIPT,
+                List.of(stateKey(auction.getId())),
+                auction.getStatus().name(),
+                auction.getSellerId().toString(),
+                auction.getPriceInfo().getCurrentPrice().toString(),
+                auction.getPriceInfo().getBidIncrement().toString(),
+                Long.toString(endAt),
+                Long.toString(endAt + STATE_RETENTION_MILLIS),
+                auction.getPeriod().getExtensionCount().toString()
+        );
+        log.debug("입찰 상태 Redis 적재 - 경매 ID: {}, 적재 여부: {}", auction.getId(), seeded);
+        return seeded != null && seeded > 0;
+    }
+
+    /**
+     * 경매 상태 전이(시작/종료/취소)를 적재된 입찰 상태에 반영한다. endAt 은 입찰 스크립트가 관리하므로 건드리지 않는다.
+     */
+    public boolean updateStatus(UUID auctionId, AuctionStatus status) {
+        Long updated = redisTemplate.execute(UPDATE_STATUS_SCRIPT, List.of(stateKey(auctionId)), status.name());
+        return updated != null && updated > 0;
+    }
+
+    public List<String> peekWriteBehind(int limit) {
+        return redisTemplate.opsForList().range(WRITE_BEHIND_KEY, 0, limit - 1L);
+    }
+
+    public void trimWriteBehind(int processedCount) {
+        redisTemplate.opsForList().trim(WRITE_BEHIND_KEY, processedCount, -1);
+    }
+
+    public void moveToDeadLetter(List<String> payloads) {
+        if (!payloads.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(WRITE_BEHIND_DLQ_KEY, payloads);
+        }
+    }
+
+    private String stateKey(UUID auctionId) {
+        return BID_STATE_KEY_PREFIX + auctionId;
+    }
+
+    private long toEpochMillis(Auction auction) {
+        return auction.getPeriod().getEndTime()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+}
@@ -1,70 +1,286 @@
 package com.bidket.auction.infrastructure.redis;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.stereotype.Service;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+/**
+ * Redis 기반 재진입 분산 락.
+ * - 락 키는 owner 별 보유 횟수를 담는 해시이며, 최초 획득 시 단조 증가하는 fencing token 을 발급한다.
+ * - 대기자는 해제 시 발행되는 pub/sub 메시지 또는 남은 TTL 만큼만 대기한다.
+ * - 보유 중인 락은 watchdog 이 lease 의 1/3 주기로 연장하므로 노드가 죽으면 lease 시간 안에 풀린다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class RedisLockService {
+public class RedisLockService implements MessageListener {
 
-    private final StringRedisTemplate redisTemplate;
     private static final String LOCK_PREFIX = "lock:";
-    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
-
-    public String acquireLock(String key, Duration timeout) {
-        String lockKey = LOCK_PREFIX + key;
-        String lockValue = UUID.randomUUID().toString();
-        
-        Boolean acquired = redisTemplate.opsForValue()
-            .setIfAbsent(lockKey, lockValue, timeout);
-        
-        if (Boolean.TRUE.equals(acquired)) {
-            log.debug("Lock acquired: {}", lockKey);
-            return lockValue;
+    private static final String FENCE_PREFIX = "lock:fence:";
+    private static final String CHANNEL_PREFIX = "lock:channel:";
+    private static final String FENCE_FIELD = "__fence";
+
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then " +
+            "  local fence = redis.call('incr', KEYS[2]) " +
+            "  redis.call('hset', KEYS[1], ARGV[2], 1, '" + FENCE_FIELD + "', fence) " +
+            "  redis.call('pexpire', KEYS[1], ARGV[1]) " +
+            "  return {1, fence} " +
+            "end " +
+            "if redis.call('hexists', KEYS[1], ARGV[2]) == 1 then " +
+            "  redis.call('hincrby', KEYS[1], ARGV[2], 1) " +
+            "  redis.call('pexpire', KEYS[1], ARGV[1]) " +
+            "  return {1, tonumber(redis.call('hget', KEYS[1], '" + FENCE_FIELD + "'))} " +
+            "end " +
+            "return {0, redis.call('pttl', KEYS[1])}",
+            (Class<List<Long>>) (Class<?>) List.class
+    );
+
+    // 재진입 해제는 보유 횟수만 줄이고 남은 lease 는 그대로 둔다 (연장은 watchdog 몫)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then return -1 end " +
+            "local count = redis.call('hincrby', KEYS[1], ARGV[1], -1) " +
+            "if count > 0 then return 0 end " +
+            "redis.call('del', KEYS[1]) " +
+            "redis.call('publish', KEYS[2], 'released') " +
+            "return 1",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 1 then " +
+            "  redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultLease;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, LockWaiters> waiters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-lock-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisLockService(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${bidket.lock.lease-ms:10000}") long leaseMillis) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.defaultLease = Duration.ofMillis(leaseMillis);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+    }
+
+    /**
+     * waitTime 동안 락 획득을 시도한다. 획득한 락은 해제 전까지 watchdog 이 연장한다.
+     */
+    public Optional<LockHandle> tryLock(String key, Duration waitTime) {
+        return tryLock(key, waitTime, null);
+    }
+
+    /**
+     * leaseTime 이 주어지면 watchdog 없이 해당 시간 뒤 자동 만료된다.
+     */
+    public Optional<LockHandle> tryLock(String key, Duration waitTime, Duration leaseTime) {
+        String ownerId = instanceId + ":" + Thread.currentThread().getId();
+        Duration lease = leaseTime != null ? leaseTime : defaultLease;
+        String lockName = metricName(key);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + waitTime.toNanos();
+
+        AcquireResult result = acquire(key, ownerId, lease);
+        if (!result.acquired()) {
+            Counter.builder("bidket.lock.contended")
+                    .tag("lock", lockName)
+                    .register(meterRegistry)
+                    .increment();
+
+            LockWaiters lockWaiters = waiters.compute(key, (k, existing) -> {
+                LockWaiters target = existing != null ? existing : new LockWaiters();
+                target.count().incrementAndGet();
+                return target;
+            });
+            try {
+                while (!result.acquired()) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+                    long ttlNanos = result.value() > 0 ? TimeUnit.MILLISECONDS.toNanos(result.value()) : remainingNanos;
+                    lockWaiters.semaphore().tryAcquire(Math.min(remainingNanos, ttlNanos), TimeUnit.NANOSECONDS);
+                    result = acquire(key, ownerId, lease);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiters.computeIfPresent(key, (k, existing) ->
+                        existing.count().decrementAndGet() <= 0 ? null : existing);
+            }
+        }
+
+        Timer.builder("bidket.lock.wait")
+                .tag("lock", lockName)
+                .tag("outcome", result.acquired() ? "acquired" : "timeout")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (!result.acquired()) {
+            log.debug("락 획득 실패 (대기 시간 초과): {}", key);
+            return Optional.empty();
+        }
+
+        if (leaseTime == null) {
+            startWatchdog(key, ownerId, lease);
+        }
+
+        log.debug("락 획득: {} (fencing token: {})", key, result.value());
+        return Optional.of(new LockHandle(this, key, ownerId, result.value()));
+    }
+
+    public <T> Optional<T> executeWithLock(String key, Duration waitTime, Supplier<T> action) {
+        Optional<LockHandle> handle = tryLock(key, waitTime);
+        if (handle.isEmpty()) {
+            return Optional.empty();
+        }
+        try (LockHandle ignored = handle.get()) {
+            return Optional.ofNullable(action.get());
         }
-        
-        log.debug("Failed to acquire lock: {}", lockKey);
-        return null;
     }
 
-    public boolean releaseLock(String key, String lockValue) {
-        String lockKey = LOCK_PREFIX + key;
-        
-        String script = 
-            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
-            "  return redis.call('del', KEYS[1]) " +
-            "else " +
-            "  return 0 " +
-            "end";
-        
+    boolean release(LockHandle handle) {
         Long result = redisTemplate.execute(
-            new DefaultRedisScript<>(
-                script, Long.class
-            ),
-            Collections.singletonList(lockKey),
-            lockValue
+                RELEASE_SCRIPT,
+                List.of(LOCK_PREFIX + handle.key(), CHANNEL_PREFIX + handle.key()),
+                handle.ownerId()
         );
-        
-        boolean released = result != null && result > 0;
-        if (released) {
-            log.debug("Lock released: {}", lockKey);
-        } else {
-            log.warn("Failed to release lock: {} (lock value mismatch)", lockKey);
+
+        if (result == null || result < 0) {
+            stopWatchdog(handle.key(), handle.ownerId());
+            log.warn("락 해제 실패: {} (이미 만료되었거나 소유자가 아님)", handle.key());
+            return false;
+        }
+
+        if (result == 1) {
+            stopWatchdog(handle.key(), handle.ownerId());
+            log.debug("락 해제: {}", handle.key());
         }
-        
-        return released;
+        return true;
     }
 
-    public String acquireLock(String key) {
-        return acquireLock(key, DEFAULT_TIMEOUT);
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        LockWaiters lockWaiters = waiters.get(channel.substring(CHANNEL_PREFIX.length()));
+        if (lockWaiters != null) {
+            lockWaiters.semaphore().release();
+        }
     }
-}
 
+    private AcquireResult acquire(String key, String ownerId, Duration lease) {
+        List<Long> result = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(LOCK_PREFIX + key, FENCE_PREFIX + key),
+                Long.toString(lease.toMillis()),
+                ownerId
+        );
+
+        if (result == null || result.size() < 2) {
+            return new AcquireResult(false, -1L);
+        }
+        return new AcquireResult(result.get(0) == 1L, result.get(1));
+    }
+
+    private void startWatchdog(String key, String ownerId, Duration lease) {
+        long period = Math.max(lease.toMillis() / 3, 1);
+        renewals.computeIfAbsent(key + "|" + ownerId, k -> watchdog.scheduleAtFixedRate(
+                () -> renew(key, ownerId, lease), period, period, TimeUnit.MILLISECONDS));
+    }
+
+    private void stopWatchdog(String key, String ownerId) {
+        ScheduledFuture<?> renewal = renewals.remove(key + "|" + ownerId);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+    }
+
+    private void renew(String key, String ownerId, Duration lease) {
+        try {
+            Long renewed = redisTemplate.execute(
+                    RENEW_SCRIPT,
+                    List.of(LOCK_PREFIX + key),
+                    ownerId,
+                    Long.toString(lease.toMillis())
+            );
+            if (renewed == null || renewed == 0) {
+                log.warn("락 연장 실패, 소유권 상실: {}", key);
+                Counter.builder("bidket.lock.lost")
+                        .tag("lock", metricName(key))
+                        .register(meterRegistry)
+                        .increment();
+                stopWatchdog(key, ownerId);
+            }
+        } catch (Exception e) {
+            log.warn("락 연장 중 오류: {} - {}", key, e.getMessage());
+        }
+    }
+
+    // 경매 ID 등 식별자는 메트릭 태그 카디널리티를 키우므로 치환한다
+    private String metricName(String key) {
+        return key.replaceAll("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}", "{id}");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private record AcquireResult(boolean acquired, long value) {
+    }
+
+    private record LockWaiters(Semaphore semaphore, AtomicInteger count) {
+        LockWaiters() {
+            this(new Semaphore(0), new AtomicInteger());
+        }
+    }
+}
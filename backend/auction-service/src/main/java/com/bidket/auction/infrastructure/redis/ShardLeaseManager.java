@@ -0,0 +1,166 @@
+package com.bidket.auction.infrastructure.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 샤드별 Redis lease 로 레플리카 간 경매 처리 구간을 나눈다.
+ * - 각 레플리카는 heartbeat 마다 살아 있는 레플리카 수로 목표 샤드 수(ceil)를 계산해 부족하면 빈 샤드를 가져오고, 넘치면 반납한다.
+ * - 보유 샤드는 같은 heartbeat 에서 연장되며, 노드가 죽으면 lease 만료 후 다른 레플리카가 가져간다.
+ * - LEADER_SHARD 보유자가 전역 작업(정합성 점검, 조회수 동기화)의 리더가 된다.
+ */
+@Slf4j
+@Component
+public class ShardLeaseManager {
+
+    private static final String LEASE_KEY_PREFIX = "auction:shard:lease:";
+    private static final String MEMBERS_KEY = "auction:shard:members";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuctionSharding sharding;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration leaseDuration;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<Integer> ownedShards = ConcurrentHashMap.newKeySet();
+
+    public ShardLeaseManager(StringRedisTemplate redisTemplate,
+                             AuctionSharding sharding,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${bidket.auction.shards.lease-ms:15000}") long leaseMillis) {
+        this.redisTemplate = redisTemplate;
+        this.sharding = sharding;
+        this.eventPublisher = eventPublisher;
+        this.leaseDuration = Duration.ofMillis(leaseMillis);
+
+        Gauge.builder("bidket.auction.shards.owned", ownedShards, Set::size)
+                .description("이 레플리카가 보유한 경매 샤드 수")
+                .register(meterRegistry);
+    }
+
+    public Set<Integer> ownedShards() {
+        return Set.copyOf(ownedShards);
+    }
+
+    public boolean isLeader() {
+        return ownedShards.contains(AuctionSharding.LEADER_SHARD);
+    }
+
+    @Scheduled(fixedDelayString = "${bidket.auction.shards.heartbeat-ms:5000}")
+    public void heartbeat() {
+        Set<Integer> acquired = new HashSet<>();
+        Set<Integer> released = new HashSet<>();
+
+        try {
+            int target = targetShardCount();
+
+            renewOwnedShards(released);
+            releaseExcessShards(target, released);
+            acquireFreeShards(target, acquired);
+        } catch (Exception e) {
+            log.warn("샤드 lease 갱신 실패: {}", e.getMessage());
+        }
+
+        if (!acquired.isEmpty() || !released.isEmpty()) {
+            log.info("샤드 소유 변경 - 획득: {}, 반납/상실: {}, 보유: {}", acquired, released, ownedShards);
+            eventPublisher.publishEvent(new ShardOwnershipChangedEvent(Set.copyOf(acquired), Set.copyOf(released)));
+        }
+    }
+
+    private int targetShardCount() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(MEMBERS_KEY, instanceId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, 0, now - leaseDuration.toMillis());
+
+        Long members = redisTemplate.opsForZSet().zCard(MEMBERS_KEY);
+        long liveMembers = members != null && members > 0 ? members : 1;
+        return (int) Math.ceil((double) sharding.shardCount() / liveMembers);
+    }
+
+    private void renewOwnedShards(Set<Integer> released) {
+        for (Integer shard : List.copyOf(ownedShards)) {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey(shard)),
+                    instanceId, Long.toString(leaseDuration.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("샤드 lease 상실: {}", shard);
+                ownedShards.remove(shard);
+                released.add(shard);
+            }
+        }
+    }
+
+    private void releaseExcessShards(int target, Set<Integer> released) {
+        for (Integer shard : List.copyOf(ownedShards)) {
+            if (ownedShards.size() <= target) {
+                return;
+            }
+            // 리더 샤드는 마지막까지 유지해 리더가 불필요하게 바뀌지 않도록 한다
+            if (shard == AuctionSharding.LEADER_SHARD && ownedShards.size() > 1) {
+                continue;
+            }
+            release(shard);
+            released.add(shard);
+        }
+    }
+
+    private void acquireFreeShards(int target, Set<Integer> acquired) {
+        for (int shard = 0; shard < sharding.shardCount() && ownedShards.size() < target; shard++) {
+            if (ownedShards.contains(shard)) {
+                continue;
+            }
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(leaseKey(shard), instanceId, leaseDuration);
+            if (Boolean.TRUE.equals(claimed)) {
+                ownedShards.add(shard);
+                acquired.add(shard);
+            }
+        }
+    }
+
+    private void release(int shard) {
+        ownedShards.remove(shard);
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(shard)), instanceId);
+    }
+
+    private String leaseKey(int shard) {
+        return LEASE_KEY_PREFIX + shard;
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        try {
+            List.copyOf(ownedShards).forEach(this::release);
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId);
+        } catch (Exception e) {
+            log.warn("샤드 lease 반납 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.bidket.auction.infrastructure.redis;
+
+import java.util.Set;
+
+public record ShardOwnershipChangedEvent(Set<Integer> acquired, Set<Integer> released) {
+
+    public boolean acquiredLeadership() {
+        return acquired.contains(AuctionSharding.LEADER_SHARD);
+    }
+}
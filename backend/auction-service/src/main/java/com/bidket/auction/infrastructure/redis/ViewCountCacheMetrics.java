@@ -0,0 +1,30 @@
+package com.bidket.auction.infrastructure.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 캐시 상태를 actuator 메트릭으로 노출한다. 두 값 모두 Redis 에서 O(1)/O(log N) 으로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountCacheMetrics implements MeterBinder {
+
+    private final ViewCountCacheService viewCountCacheService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bidket.viewcount.dirty", viewCountCacheService,
+                        service -> service.getCacheStats().dirtyCount())
+                .description("DB 동기화 대기 중인 경매 수")
+                .register(registry);
+
+        Gauge.builder("bidket.viewcount.cached", viewCountCacheService,
+                        service -> service.getCacheStats().cachedAuctionsCount())
+                .description("Redis 에 조회수가 캐시된 경매 수")
+                .register(registry);
+    }
+}
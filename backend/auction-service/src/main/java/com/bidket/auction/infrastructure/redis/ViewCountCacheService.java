@@ -1,21 +1,32 @@
 package com.bidket.auction.infrastructure.redis;
 
 import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Service
 @RequiredArgsConstructor
@@ -28,43 +39,98 @@ public class ViewCountCacheService {
     private static final String VIEW_COUNT_KEY_PREFIX = "auction:view:";
     private static final String DIRTY_FLAG_KEY = "auction:view:dirty";
     private static final String BATCH_KEY_PREFIX = "auction:view:batch:";
+    private static final String CACHED_INDEX_KEY = "auction:view:index";
+
+    private static final int SCAN_PAGE_SIZE = 500;
 
     private static final Duration CACHE_TTL = Duration.ofHours(24);
-    private static final int BATCH_SIZE = 100;
+    private static final int BATCH_SIZE = 1000;
+
+    // 증가는 read lock, 버퍼 교체는 write lock 으로 보호해 교체된 버퍼에 늦게 더해지는 증가분이 없도록 한다
+    private final ReadWriteLock pendingLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentMap<UUID, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
 
-    @Async
+    /**
+     * 조회수는 로컬 LongAdder 에 누적되고, flushPendingViewCounts 가 주기적으로 한 번의 파이프라인으로 Redis 에 반영한다.
+     */
     public void incrementViewCountAsync(UUID auctionId) {
-        try {
-            String key = VIEW_COUNT_KEY_PREFIX + auctionId.toString();
+        addPending(auctionId, 1L);
+    }
 
-            Long newViewCount = redisTemplate.opsForValue().increment(key);
-            if (newViewCount == null) {
-                log.warn("조회수 증가 실패: Redis increment 반환값 null, auctionId={}", auctionId);
-                return;
-            }
+    private void addPending(UUID auctionId, long delta) {
+        pendingLock.readLock().lock();
+        try {
+            pendingViewCounts.computeIfAbsent(auctionId, id -> new LongAdder()).add(delta);
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
 
-            log.debug("조회수 증가: auctionId={}, newCount={}", auctionId, newViewCount);
+    @Scheduled(fixedDelayString = "${bidket.view-count.flush-interval-ms:100}")
+    public void flushPendingViewCounts() {
+        Map<UUID, Long> deltas = drainPendingViewCounts();
+        if (deltas.isEmpty()) {
+            return;
+        }
 
-            if (newViewCount == 1) {
-                try {
-                    redisTemplate.expire(key, CACHE_TTL);
-                } catch (Exception e) {
-                    log.warn("TTL 설정 실패: auctionId={}, error={}", auctionId, e.getMessage());
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    long now = System.currentTimeMillis();
+                    double expiresAt = now + CACHE_TTL.toMillis();
+                    for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+                        String key = VIEW_COUNT_KEY_PREFIX + entry.getKey().toString();
+                        ops.opsForValue().increment(key, entry.getValue());
+                        ops.expire(key, CACHE_TTL);
+                        ops.opsForSet().add(DIRTY_FLAG_KEY, entry.getKey().toString());
+                        ops.opsForZSet().add(CACHED_INDEX_KEY, entry.getKey().toString(), expiresAt);
+                    }
+                    // 조회수 키와 같은 만료 시각을 score 로 두어 캐시된 경매 수를 ZCOUNT(now, +inf) 로 바로 읽는다
+                    ops.opsForZSet().removeRangeByScore(CACHED_INDEX_KEY, 0, now);
+                    return null;
                 }
-            }
+            });
+            log.debug("조회수 반영: {} 건", deltas.size());
+        } catch (Exception e) {
+            // 반영하지 못한 증가분은 다음 주기에 다시 시도한다
+            deltas.forEach(this::addPending);
+            log.error("Redis 조회수 반영 실패 - 다음 주기에 재시도: {} 건, error={}", deltas.size(), e.getMessage());
+        }
+    }
 
-            try {
-                redisTemplate.opsForSet().add(DIRTY_FLAG_KEY, auctionId.toString());
-            } catch (Exception e) {
-                log.warn("더티 플래그 설정 실패: auctionId={}, error={}", auctionId, e.getMessage());
+    private Map<UUID, Long> drainPendingViewCounts() {
+        ConcurrentMap<UUID, LongAdder> drained = swapPendingViewCounts();
+
+        // write lock 을 얻은 시점에 진행 중인 증가는 모두 끝났으므로 교체된 버퍼는 더 이상 바뀌지 않는다
+        Map<UUID, Long> deltas = new HashMap<>();
+        drained.forEach((auctionId, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                deltas.put(auctionId, delta);
             }
+        });
+        return deltas;
+    }
 
-        } catch (Exception e) {
-            log.error("Redis 조회수 증가 실패 - 시스템은 계속 동작: auctionId={}, error={}",
-                     auctionId, e.getMessage());
+    private ConcurrentMap<UUID, LongAdder> swapPendingViewCounts() {
+        pendingLock.writeLock().lock();
+        try {
+            ConcurrentMap<UUID, LongAdder> drained = pendingViewCounts;
+            pendingViewCounts = new ConcurrentHashMap<>();
+            return drained;
+        } finally {
+            pendingLock.writeLock().unlock();
         }
     }
 
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingViewCounts();
+    }
+
     public Integer getViewCount(UUID auctionId, Integer dbViewCount) {
         try {
             String key = VIEW_COUNT_KEY_PREFIX + auctionId.toString();
@@ -95,6 +161,10 @@ public class ViewCountCacheService {
         return dbViewCount;
     }
 
+    /**
+     * 더티 경매의 조회수를 청크 단위로 MGET 하여 한 번의 UPDATE 로 반영하고,
+     * 배치 기록/더티 플래그 정리는 마지막에 한 번의 파이프라인으로 처리한다.
+     */
     public int syncViewCountsToDatabase() {
         try {
             Set<Object> dirtyAuctionIds = redisTemplate.opsForSet().members(DIRTY_FLAG_KEY);
@@ -105,38 +175,30 @@ public class ViewCountCacheService {
 
             log.info("조회수 배치 동기화 시작: 총 {} 건", dirtyAuctionIds.size());
 
-            List<Object> auctionIdList = new ArrayList<>(dirtyAuctionIds);
+            List<String> auctionIdList = dirtyAuctionIds.stream().map(Object::toString).toList();
 
             String batchDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             String batchKey = BATCH_KEY_PREFIX + batchDate;
 
-            int totalSyncedCount = 0;
+            Map<String, String> syncedCounts = new HashMap<>();
+            List<String> resolvedAuctionIds = new ArrayList<>();
 
             for (int i = 0; i < auctionIdList.size(); i += BATCH_SIZE) {
-                int endIndex = Math.min(i + BATCH_SIZE, auctionIdList.size());
-                List<Object> chunk = auctionIdList.subList(i, endIndex);
-
-                int chunkSyncedCount = processBatchChunk(chunk, batchKey);
-
-                totalSyncedCount += chunkSyncedCount;
+                List<String> chunk = auctionIdList.subList(i, Math.min(i + BATCH_SIZE, auctionIdList.size()));
 
-                if (i + BATCH_SIZE < auctionIdList.size()) {
-                    try {
-                        Thread.sleep(10);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
+                try {
+                    syncChunk(chunk, syncedCounts, resolvedAuctionIds);
+                } catch (Exception e) {
+                    log.error("조회수 청크 동기화 실패: {} 건 (다음 주기에 재시도)", chunk.size(), e);
                 }
 
-                log.debug("청크 동기화 완료: {}/{} 건 (총: {})",
-                         chunkSyncedCount, chunk.size(), totalSyncedCount);
+                log.debug("청크 동기화 완료: {}/{} 건", Math.min(i + BATCH_SIZE, auctionIdList.size()), auctionIdList.size());
             }
 
-            redisTemplate.expire(batchKey, Duration.ofDays(7));
+            cleanUpSyncedAuctions(batchKey, syncedCounts, resolvedAuctionIds);
 
-            log.info("조회수 배치 동기화 완료: 총 {} 건", totalSyncedCount);
-            return totalSyncedCount;
+            log.info("조회수 배치 동기화 완료: 총 {} 건", syncedCounts.size());
+            return syncedCounts.size();
 
         } catch (Exception e) {
             log.error("조회수 배치 동기화 중 오류 발생", e);
@@ -144,38 +206,62 @@ public class ViewCountCacheService {
         }
     }
 
-    @Transactional
-    private int processBatchChunk(List<Object> chunkAuctionIds, String batchKey) {
-        int syncedCount = 0;
-
-        for (Object auctionIdObj : chunkAuctionIds) {
-            String auctionIdStr = auctionIdObj.toString();
-            String viewKey = VIEW_COUNT_KEY_PREFIX + auctionIdStr;
+    private void syncChunk(List<String> chunkAuctionIds, Map<String, String> syncedCounts, List<String> resolvedAuctionIds) {
+        List<String> viewKeys = chunkAuctionIds.stream().map(id -> VIEW_COUNT_KEY_PREFIX + id).toList();
+        List<Object> viewCounts = redisTemplate.opsForValue().multiGet(viewKeys);
+        if (viewCounts == null) {
+            return;
+        }
 
+        Map<UUID, Integer> updates = new LinkedHashMap<>();
+        for (int i = 0; i < chunkAuctionIds.size(); i++) {
+            String auctionIdStr = chunkAuctionIds.get(i);
+            Object viewCountObj = viewCounts.get(i);
             try {
-                Object viewCountObj = redisTemplate.opsForValue().get(viewKey);
-                if (viewCountObj != null) {
-                    Integer viewCount = Integer.valueOf(viewCountObj.toString());
-                    UUID auctionId = UUID.fromString(auctionIdStr);
-
-                    int updatedCount = auctionRepository.updateViewCount(auctionId, viewCount);
-                    
-                    if (updatedCount > 0) {
-                        redisTemplate.opsForHash().put(batchKey, auctionIdStr, viewCount.toString());
-                        redisTemplate.opsForSet().remove(DIRTY_FLAG_KEY, auctionIdStr);
-                        
-                        syncedCount++;
-                        log.debug("조회수 DB 동기화 완료: auctionId={}, count={}", auctionIdStr, viewCount);
-                    } else {
-                        log.warn("조회수 DB 업데이트 실패 (경매 없음?): auctionId={}", auctionIdStr);
-                    }
+                if (viewCountObj == null) {
+                    // 조회수 키가 만료되어 반영할 값이 없으면 더티 플래그만 정리한다
+                    resolvedAuctionIds.add(auctionIdStr);
+                    continue;
                 }
-            } catch (Exception e) {
-                log.error("조회수 동기화 실패: auctionId={}", auctionIdStr, e);
+                updates.put(UUID.fromString(auctionIdStr), Integer.valueOf(viewCountObj.toString()));
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 조회수 데이터 제거: auctionId={}, value={}", auctionIdStr, viewCountObj);
+                resolvedAuctionIds.add(auctionIdStr);
             }
         }
 
-        return syncedCount;
+        List<UUID> updatedAuctionIds = auctionRepository.updateViewCounts(updates);
+        for (UUID auctionId : updatedAuctionIds) {
+            String auctionIdStr = auctionId.toString();
+            syncedCounts.put(auctionIdStr, updates.get(auctionId).toString());
+            resolvedAuctionIds.add(auctionIdStr);
+        }
+
+        if (updatedAuctionIds.size() < updates.size()) {
+            log.warn("조회수 DB 업데이트 누락 (경매 없음?): {} 건", updates.size() - updatedAuctionIds.size());
+        }
+    }
+
+    private void cleanUpSyncedAuctions(String batchKey, Map<String, String> syncedCounts, List<String> resolvedAuctionIds) {
+        if (syncedCounts.isEmpty() && resolvedAuctionIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                if (!syncedCounts.isEmpty()) {
+                    ops.opsForHash().putAll(batchKey, syncedCounts);
+                    ops.expire(batchKey, Duration.ofDays(7));
+                }
+                if (!resolvedAuctionIds.isEmpty()) {
+                    ops.opsForSet().remove(DIRTY_FLAG_KEY, resolvedAuctionIds.toArray());
+                }
+                return null;
+            }
+        });
     }
 
     public Map<Object, Object> getBatchData(String date) {
@@ -184,23 +270,37 @@ public class ViewCountCacheService {
     }
 
     public void clearCache() {
-        Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY_PREFIX + "*");
-        if (keys != null) {
-            redisTemplate.delete(keys);
+        swapPendingViewCounts();
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(VIEW_COUNT_KEY_PREFIX + "*")
+                .count(SCAN_PAGE_SIZE)
+                .build();
+
+        List<String> page = new ArrayList<>(SCAN_PAGE_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                page.add(cursor.next());
+                if (page.size() >= SCAN_PAGE_SIZE) {
+                    redisTemplate.unlink(page);
+                    page.clear();
+                }
+            }
+        }
+        if (!page.isEmpty()) {
+            redisTemplate.unlink(page);
         }
-
-        redisTemplate.delete(DIRTY_FLAG_KEY);
-        redisTemplate.delete(redisTemplate.keys(BATCH_KEY_PREFIX + "*"));
     }
 
     public CacheStats getCacheStats() {
         try {
             Long dirtyCount = redisTemplate.opsForSet().size(DIRTY_FLAG_KEY);
-            Set<String> viewKeys = redisTemplate.keys(VIEW_COUNT_KEY_PREFIX + "*");
+            Long cachedCount = redisTemplate.opsForZSet().count(
+                    CACHED_INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
 
             return new CacheStats(
                     dirtyCount != null ? dirtyCount : 0,
-                    viewKeys != null ? viewKeys.size() : 0
+                    cachedCount != null ? cachedCount : 0
             );
         } catch (Exception e) {
             log.error("캐시 통계 조회 실패", e);
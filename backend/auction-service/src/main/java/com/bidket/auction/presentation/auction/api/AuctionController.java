@@ -3,6 +3,7 @@ package com.bidket.auction.presentation.auction.api;
 import com.bidket.auction.application.auction.dto.request.CreateAuctionRequest;
 import com.bidket.auction.application.auction.dto.request.UpdateAuctionRequest;
 import com.bidket.auction.application.auction.dto.response.AuctionResponse;
+import com.bidket.auction.application.auction.service.AuctionDetailService;
 import com.bidket.auction.application.auction.service.AuctionService;
 import com.bidket.auction.domain.auction.model.AuctionStatus;
 import com.bidket.common.presentation.response.ApiResponse;
@@ -35,6 +36,7 @@ import java.util.UUID;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final AuctionDetailService auctionDetailService;
 
     @Operation(summary = "경매 생성", description = "새로운 경매를 생성합니다")
     @PostMapping
@@ -58,7 +60,7 @@ public class AuctionController {
             @PathVariable UUID auctionId) {
         log.info("[경매 조회 API] auctionId={}", auctionId);
 
-        AuctionResponse response = auctionService.getAuction(auctionId);
+        AuctionResponse response = auctionDetailService.getAuctionDetail(auctionId);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -0,0 +1,37 @@
+package com.bidket.auction.presentation.auction.api;
+
+import com.bidket.auction.application.auction.stream.AuctionStreamHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@Tag(name = "Auction Stream API", description = "경매 실시간 스트림 API")
+@RestController
+@RequestMapping("/api/v1/auctions")
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionStreamController {
+
+    private final AuctionStreamHub auctionStreamHub;
+
+    @Operation(summary = "경매 실시간 스트림 구독",
+            description = "현재가/최고 입찰자 변경, 연장, 종료 이벤트를 SSE 로 전달합니다. 이벤트는 주기별로 묶여 전달됩니다.")
+    @GetMapping(value = "/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(description = "경매 ID", required = true)
+            @PathVariable UUID auctionId
+    ) {
+        log.debug("경매 스트림 구독 요청 - 경매 ID: {}", auctionId);
+        return auctionStreamHub.subscribe(auctionId);
+    }
+}
@@ -1,8 +1,11 @@
 package com.bidket.auction.presentation.bid.api;
 
 import com.bidket.auction.application.bid.dto.request.CreateBidRequest;
-import com.bidket.auction.application.bid.dto.response.BidListResponse;
+import com.bidket.auction.application.bid.dto.request.CreateProxyBidRequest;
+import com.bidket.auction.application.bid.dto.response.BidPageResponse;
 import com.bidket.auction.application.bid.dto.response.BidResponse;
+import com.bidket.auction.application.bid.dto.response.ProxyBidResponse;
+import com.bidket.auction.application.bid.service.BidPlacementService;
 import com.bidket.auction.application.bid.service.BidService;
 import com.bidket.common.presentation.response.ApiResponse;
 import jakarta.validation.Valid;
@@ -21,40 +24,61 @@ import java.util.UUID;
 public class BidController {
 
     private final BidService bidService;
+    private final BidPlacementService bidPlacementService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<BidResponse>> createBid(
             @RequestHeader("X-User-Id") UUID userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody CreateBidRequest request
     ) {
         log.info("입찰 등록 요청 - 사용자: {}, 경매: {}, 금액: {}",
                 userId, request.auctionId(), request.amount());
         
-        BidResponse response = bidService.createBid(userId, request);
+        BidResponse response = bidPlacementService.createBid(userId, request, idempotencyKey);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success("입찰이 성공적으로 등록되었습니다", response));
     }
 
+    @PostMapping("/proxy")
+    public ResponseEntity<ApiResponse<ProxyBidResponse>> createProxyBid(
+            @RequestHeader("X-User-Id") UUID userId,
+            @Valid @RequestBody CreateProxyBidRequest request
+    ) {
+        log.info("자동 입찰 등록 요청 - 사용자: {}, 경매: {}, 최대 금액: {}",
+                userId, request.auctionId(), request.maxAmount());
+
+        ProxyBidResponse response = bidPlacementService.createProxyBid(userId, request);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("자동 입찰이 등록되었습니다", response));
+    }
+
     @GetMapping("/auction/{auctionId}")
-    public ResponseEntity<ApiResponse<BidListResponse>> getBidsByAuction(
-            @PathVariable UUID auctionId
+    public ResponseEntity<ApiResponse<BidPageResponse>> getBidsByAuction(
+            @PathVariable UUID auctionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         log.info("경매별 입찰 목록 조회 - 경매 ID: {}", auctionId);
         
-        BidListResponse response = bidService.getBidsByAuction(auctionId);
+        BidPageResponse response = bidService.getBidsByAuction(auctionId, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/my")
-    public ResponseEntity<ApiResponse<BidListResponse>> getMyBids(
-            @RequestHeader("X-User-Id") UUID userId
+    public ResponseEntity<ApiResponse<BidPageResponse>> getMyBids(
+            @RequestHeader("X-User-Id") UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         log.info("내 입찰 목록 조회 - 사용자: {}", userId);
         
-        BidListResponse response = bidService.getMyBids(userId);
+        BidPageResponse response = bidService.getMyBids(userId, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
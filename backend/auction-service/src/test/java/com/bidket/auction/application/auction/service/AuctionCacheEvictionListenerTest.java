@@ -0,0 +1,62 @@
+package com.bidket.auction.application.auction.service;
+
+import com.bidket.auction.domain.auction.event.AuctionPriceChangedEvent;
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuctionCacheEvictionListener 단위 테스트")
+class AuctionCacheEvictionListenerTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private AuctionCacheEvictionListener listener;
+
+    @Test
+    @DisplayName("성공: 일괄 전이된 경매의 캐시 항목을 무효화한다")
+    void onScheduleChanged_EvictsAuction() {
+        // Given
+        UUID auctionId = UUID.randomUUID();
+        given(cacheManager.getCache("auctions")).willReturn(cache);
+        LocalDateTime endTime = LocalDateTime.now().minusSeconds(1);
+
+        // When
+        listener.onScheduleChanged(new AuctionScheduleChangedEvent(
+                auctionId, AuctionStatus.SUCCESS, endTime.minusDays(1), endTime));
+
+        // Then
+        verify(cache).evict(auctionId);
+    }
+
+    @Test
+    @DisplayName("성공: 입찰로 현재가가 바뀐 경매의 캐시 항목을 무효화한다")
+    void onPriceChanged_EvictsAuction() {
+        // Given
+        UUID auctionId = UUID.randomUUID();
+        given(cacheManager.getCache("auctions")).willReturn(cache);
+
+        // When
+        listener.onPriceChanged(new AuctionPriceChangedEvent(auctionId, UUID.randomUUID(), 310000L, UUID.randomUUID(), 1));
+
+        // Then
+        verify(cache).evict(auctionId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bidket.auction.application.auction.service;
+
+import com.bidket.auction.application.auction.dto.response.AuctionResponse;
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionCondition;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
+import com.bidket.auction.domain.auction.model.vo.AuctionStats;
+import com.bidket.auction.domain.auction.model.vo.PriceInfo;
+import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
+import com.bidket.auction.infrastructure.redis.ViewCountCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuctionDetailService 단위 테스트")
+class AuctionDetailServiceTest {
+
+    @Mock
+    private AuctionService auctionService;
+
+    @Mock
+    private ViewCountCacheService viewCountCacheService;
+
+    @InjectMocks
+    private AuctionDetailService auctionDetailService;
+
+    private UUID testAuctionId;
+    private AuctionResponse snapshot;
+
+    @BeforeEach
+    void setUp() {
+        testAuctionId = UUID.randomUUID();
+
+        Auction auction = Auction.builder()
+                .id(testAuctionId)
+                .productSizeId(UUID.randomUUID())
+                .sellerId(UUID.randomUUID())
+                .auctionTitle("[새제품] Nike Air Jordan 1")
+                .condition(AuctionCondition.DEADSTOCK)
+                .priceInfo(PriceInfo.builder()
+                        .startPrice(250000L)
+                        .currentPrice(250000L)
+                        .bidIncrement(10000L)
+                        .build())
+                .period(AuctionPeriod.builder()
+                        .startTime(LocalDateTime.now().minusHours(1))
+                        .endTime(LocalDateTime.now().plusDays(1))
+                        .originalEndTime(LocalDateTime.now().plusDays(1))
+                        .extensionCount(0)
+                        .build())
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(AuctionStatus.ACTIVE)
+                .build();
+        snapshot = AuctionResponse.from(auction);
+    }
+
+    @Test
+    @DisplayName("성공: 캐시된 스냅샷에 실시간 조회수를 합친다")
+    void getAuctionDetail_MergesLiveViewCount() {
+        // Given
+        given(auctionService.getAuction(testAuctionId)).willReturn(snapshot);
+        given(viewCountCacheService.getViewCount(testAuctionId, 0)).willReturn(42);
+
+        // When
+        AuctionResponse response = auctionDetailService.getAuctionDetail(testAuctionId);
+
+        // Then
+        assertThat(response.viewCount()).isEqualTo(42);
+        assertThat(response.auctionTitle()).isEqualTo(snapshot.auctionTitle());
+        verify(viewCountCacheService).incrementViewCountAsync(testAuctionId);
+    }
+
+    @Test
+    @DisplayName("실패: 존재하지 않는 경매는 조회수를 집계하지 않는다")
+    void getAuctionDetail_NotFound() {
+        // Given
+        given(auctionService.getAuction(testAuctionId))
+                .willThrow(new IllegalArgumentException("경매를 찾을 수 없습니다: " + testAuctionId));
+
+        // When & Then
+        assertThatThrownBy(() -> auctionDetailService.getAuctionDetail(testAuctionId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("경매를 찾을 수 없습니다");
+        verifyNoInteractions(viewCountCacheService);
+    }
+}
@@ -0,0 +1,140 @@
+package com.bidket.auction.application.auction.service;
+
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionCondition;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.TransitionedAuction;
+import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
+import com.bidket.auction.domain.auction.model.vo.AuctionStats;
+import com.bidket.auction.domain.auction.model.vo.PriceInfo;
+import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.infrastructure.redis.AuctionTransition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuctionLifecycleService 단위 테스트")
+class AuctionLifecycleServiceTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AuctionLifecycleService lifecycleService;
+
+    @Test
+    @DisplayName("성공: 일괄 종료된 경매마다 예약 변경 이벤트를 한 건씩 발행한다")
+    void endAuctions_PublishesEventPerTransitionedAuction() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().minusSeconds(1);
+        TransitionedAuction success = new TransitionedAuction(
+                UUID.randomUUID(), AuctionStatus.SUCCESS, endTime.minusDays(1), endTime);
+        TransitionedAuction expired = new TransitionedAuction(
+                UUID.randomUUID(), AuctionStatus.EXPIRED, endTime.minusDays(1), endTime);
+        UUID extendedId = UUID.randomUUID();
+        List<UUID> claimed = List.of(success.id(), expired.id(), extendedId);
+        given(auctionRepository.endAuctions(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(List.of(success, expired));
+
+        // When
+        List<TransitionedAuction> ended = lifecycleService.endAuctions(claimed);
+
+        // Then
+        assertThat(ended).containsExactly(success, expired);
+        ArgumentCaptor<AuctionScheduleChangedEvent> captor = ArgumentCaptor.forClass(AuctionScheduleChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(AuctionScheduleChangedEvent::auctionId, AuctionScheduleChangedEvent::status)
+                .containsExactly(
+                        tuple(success.id(), AuctionStatus.SUCCESS),
+                        tuple(expired.id(), AuctionStatus.EXPIRED));
+    }
+
+    @Test
+    @DisplayName("전이된 경매가 없으면 이벤트를 발행하지 않는다")
+    void startAuctions_NothingTransitioned_PublishesNothing() {
+        // Given
+        given(auctionRepository.startAuctions(anyCollection(), any(LocalDateTime.class))).willReturn(List.of());
+
+        // When
+        List<TransitionedAuction> started = lifecycleService.startAuctions(List.of(UUID.randomUUID()));
+
+        // Then
+        assertThat(started).isEmpty();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("연장되어 아직 ACTIVE 인 경매는 새 종료 시각으로 다시 예약된다")
+    void nextDueTime_WhenExtended_ReturnsNewEndTime() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(5);
+        Auction auction = activeAuction(endTime);
+        given(auctionRepository.findById(auction.getId())).willReturn(Optional.of(auction));
+
+        // When
+        Optional<LocalDateTime> dueAt = lifecycleService.nextDueTime(AuctionTransition.END, auction.getId());
+
+        // Then
+        assertThat(dueAt).contains(endTime);
+    }
+
+    @Test
+    @DisplayName("이미 시작된 경매는 시작 예약 대상이 아니다")
+    void nextDueTime_NotPending_ReturnsEmpty() {
+        // Given
+        Auction auction = activeAuction(LocalDateTime.now().plusHours(1));
+        given(auctionRepository.findById(auction.getId())).willReturn(Optional.of(auction));
+
+        // When
+        Optional<LocalDateTime> dueAt = lifecycleService.nextDueTime(AuctionTransition.START, auction.getId());
+
+        // Then
+        assertThat(dueAt).isEmpty();
+    }
+
+    private Auction activeAuction(LocalDateTime endTime) {
+        return Auction.builder()
+                .id(UUID.randomUUID())
+                .productSizeId(UUID.randomUUID())
+                .sellerId(UUID.randomUUID())
+                .auctionTitle("Test Auction")
+                .condition(AuctionCondition.NEW)
+                .priceInfo(PriceInfo.builder()
+                        .startPrice(10000L)
+                        .currentPrice(10000L)
+                        .bidIncrement(1000L)
+                        .build())
+                .period(AuctionPeriod.builder()
+                        .startTime(endTime.minusDays(1))
+                        .endTime(endTime)
+                        .originalEndTime(endTime)
+                        .extensionCount(0)
+                        .build())
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+}
@@ -12,7 +12,6 @@ import com.bidket.auction.domain.auction.model.vo.PriceInfo;
 import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
 import com.bidket.auction.domain.auction.repository.AuctionRepository;
 import com.bidket.auction.domain.auction.service.AuctionValidator;
-import com.bidket.auction.infrastructure.redis.ViewCountCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -41,9 +40,6 @@ class AuctionServiceTest {
     @Mock
     private AuctionValidator auctionValidator;
 
-    @Mock
-    private ViewCountCacheService viewCountCacheService;
-
     @InjectMocks
     private AuctionService auctionService;
 
@@ -164,8 +160,6 @@ class AuctionServiceTest {
             // Given
             given(auctionRepository.findById(testAuctionId))
                     .willReturn(Optional.of(testAuction));
-            given(viewCountCacheService.getViewCount(any(UUID.class), any(Integer.class)))
-                    .willReturn(0);
 
             // When
             AuctionResponse response = auctionService.getAuction(testAuctionId);
@@ -175,7 +169,6 @@ class AuctionServiceTest {
             assertThat(response.auctionTitle()).isEqualTo("[새제품] Nike Air Jordan 1");
 
             verify(auctionRepository).findById(testAuctionId);
-            verify(viewCountCacheService).incrementViewCountAsync(testAuctionId);
         }
 
         @Test
@@ -0,0 +1,153 @@
+package com.bidket.auction.application.auction.stream;
+
+import com.bidket.auction.domain.auction.event.AuctionPriceChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AuctionStreamHub 테스트")
+class AuctionStreamHubTest {
+
+    private AuctionStreamHub streamHub;
+    private UUID auctionId;
+
+    @BeforeEach
+    void setUp() {
+        streamHub = new AuctionStreamHub(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), 60000L, 2, 200L);
+        auctionId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 입찰 이벤트는 마지막 값만 한 프레임으로 전송된다")
+    void flush_CoalescesEventsIntoSingleFrame() {
+        // Given
+        CapturingEmitter emitter = new CapturingEmitter();
+        streamHub.register(auctionId, emitter);
+        for (int i = 1; i <= 5; i++) {
+            streamHub.dispatch(priceChanged(300000L + i * 10000L, i));
+        }
+
+        // When
+        streamHub.flush();
+        streamHub.flush();
+
+        // Then
+        assertThat(emitter.frames).singleElement().satisfies(frame -> {
+            assertThat(frame).contains("350000");
+            assertThat(frame).doesNotContain("340000");
+        });
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 경매의 이벤트는 보관하지 않는다")
+    void dispatch_WithoutSubscribers_IsDropped() {
+        // Given
+        streamHub.dispatch(priceChanged(310000L, 1));
+        CapturingEmitter emitter = new CapturingEmitter();
+        streamHub.register(auctionId, emitter);
+
+        // When
+        streamHub.flush();
+
+        // Then
+        assertThat(emitter.frames).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 제거된다")
+    void flush_RemovesBrokenEmitter() {
+        // Given
+        CapturingEmitter healthy = new CapturingEmitter();
+        CapturingEmitter broken = new CapturingEmitter();
+        broken.failing = true;
+        streamHub.register(auctionId, healthy);
+        streamHub.register(auctionId, broken);
+        streamHub.dispatch(priceChanged(310000L, 1));
+
+        // When
+        streamHub.flush();
+
+        // Then
+        assertThat(healthy.frames).hasSize(1);
+        assertThat(streamHub.subscriberCount(auctionId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 제한 시간 안에 끝나지 않는 구독자는 제거되고 다른 구독자는 프레임을 받는다")
+    void flush_RemovesStalledEmitter() {
+        // Given
+        CapturingEmitter healthy = new CapturingEmitter();
+        StalledEmitter stalled = new StalledEmitter();
+        streamHub.register(auctionId, healthy);
+        streamHub.register(auctionId, stalled);
+        streamHub.dispatch(priceChanged(310000L, 1));
+
+        // When
+        streamHub.flush();
+
+        // Then
+        assertThat(healthy.frames).hasSize(1);
+        assertThat(streamHub.subscriberCount(auctionId)).isEqualTo(1);
+        assertThat(stalled.completedWithError.get()).isTrue();
+    }
+
+    private AuctionStreamEvent priceChanged(Long price, int totalBids) {
+        return AuctionStreamEvent.from(new AuctionPriceChangedEvent(auctionId, UUID.randomUUID(), price, UUID.randomUUID(), totalBids));
+    }
+
+    private static class CapturingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("연결 끊김");
+            }
+            StringBuilder frame = new StringBuilder();
+            builder.build().forEach(part -> frame.append(part.getData()));
+            frames.add(frame.toString());
+        }
+    }
+
+    private static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicBoolean completedWithError = new AtomicBoolean();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("전송 중단", e);
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completedWithError.set(true);
+            super.completeWithError(ex);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bidket.auction.application.bid.proxy;
+
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionCondition;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
+import com.bidket.auction.domain.auction.model.vo.AuctionStats;
+import com.bidket.auction.domain.auction.model.vo.PriceInfo;
+import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
+import com.bidket.auction.infrastructure.redis.ProxyBidStore;
+import com.bidket.auction.infrastructure.redis.ProxyCeiling;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProxyBidEngine 테스트")
+class ProxyBidEngineTest {
+
+    @Mock
+    private ProxyBidStore proxyBidStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ProxyBidEngine proxyBidEngine;
+
+    private Auction auction;
+    private UUID bidderId;
+    private UUID competitorId;
+
+    @BeforeEach
+    void setUp() {
+        bidderId = UUID.randomUUID();
+        competitorId = UUID.randomUUID();
+
+        // 현재가 300,000원, 입찰 단위 10,000원
+        auction = Auction.builder()
+                .id(UUID.randomUUID())
+                .productSizeId(UUID.randomUUID())
+                .sellerId(UUID.randomUUID())
+                .auctionTitle("Test Auction")
+                .condition(AuctionCondition.NEW)
+                .priceInfo(PriceInfo.builder()
+                        .startPrice(300000L)
+                        .currentPrice(300000L)
+                        .bidIncrement(10000L)
+                        .build())
+                .period(AuctionPeriod.builder()
+                        .startTime(LocalDateTime.now().minusHours(1))
+                        .endTime(LocalDateTime.now().plusHours(1))
+                        .originalEndTime(LocalDateTime.now().plusHours(1))
+                        .extensionCount(0)
+                        .build())
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("경쟁 상한이 없으면 최소 입찰가로 선두가 된다")
+    void resolve_WithoutCompetitor_BidsMinimum() {
+        // Given
+        when(proxyBidStore.findStrongestExcept(any(), any(), any())).thenReturn(Optional.empty());
+
+        // When
+        List<VisibleBid> result = proxyBidEngine.resolve(auction, bidderId, 500000L);
+
+        // Then
+        assertThat(result).containsExactly(new VisibleBid(bidderId, 310000L, false));
+    }
+
+    @Test
+    @DisplayName("경쟁 상한보다 높으면 경쟁 상한 + 입찰 단위 한 건으로 끝난다")
+    void resolve_AboveCompetitor_BidsSecondHighestPlusIncrement() {
+        // Given
+        when(proxyBidStore.findStrongestExcept(any(), any(), any()))
+                .thenReturn(Optional.of(new ProxyCeiling(competitorId, 420000L)));
+
+        // When
+        List<VisibleBid> result = proxyBidEngine.resolve(auction, bidderId, 500000L);
+
+        // Then
+        assertThat(result).containsExactly(new VisibleBid(bidderId, 430000L, false));
+    }
+
+    @Test
+    @DisplayName("경쟁 상한이 같거나 높으면 최대가 입찰은 밀리고 경쟁자가 응답한다")
+    void resolve_BelowCompetitor_RecordsOutbidAndResponse() {
+        // Given
+        when(proxyBidStore.findStrongestExcept(any(), any(), any()))
+                .thenReturn(Optional.of(new ProxyCeiling(competitorId, 450000L)));
+
+        // When
+        List<VisibleBid> result = proxyBidEngine.resolve(auction, bidderId, 450000L);
+
+        // Then - 동점이면 먼저 등록된 상한이 이긴다
+        assertThat(result).containsExactly(
+                new VisibleBid(bidderId, 450000L, true),
+                new VisibleBid(competitorId, 450000L, false));
+    }
+
+    @Test
+    @DisplayName("최소 입찰가에 못 미치는 상한은 응답하지 않는다")
+    void respondTo_StaleCeiling_NoResponse() {
+        // Given
+        when(proxyBidStore.findStrongestExcept(any(), any(), any()))
+                .thenReturn(Optional.of(new ProxyCeiling(competitorId, 300000L)));
+
+        // When
+        Optional<VisibleBid> result = proxyBidEngine.respondTo(auction, bidderId, 310000L);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,215 @@
+package com.bidket.auction.application.bid.sequencer;
+
+import com.bidket.auction.application.bid.service.BidService;
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionCondition;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
+import com.bidket.auction.domain.auction.model.vo.AuctionStats;
+import com.bidket.auction.domain.auction.model.vo.PriceInfo;
+import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.domain.bid.model.Bid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BidSequencer 테스트")
+class BidSequencerTest {
+
+    @Mock
+    private BidService bidService;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    private BidSequencer bidSequencer;
+
+    private UUID auctionId;
+    private UUID sellerId;
+
+    @BeforeEach
+    void setUp() {
+        auctionId = UUID.randomUUID();
+        sellerId = UUID.randomUUID();
+        bidSequencer = new BidSequencer(bidService, auctionRepository, 2, 100, 16, 5000, 300000);
+
+        PriceInfo priceInfo = PriceInfo.builder()
+                .startPrice(300000L)
+                .currentPrice(300000L)
+                .bidIncrement(10000L)
+                .build();
+
+        AuctionPeriod period = AuctionPeriod.builder()
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .originalEndTime(LocalDateTime.now().plusHours(1))
+                .extensionCount(0)
+                .build();
+
+        Auction activeAuction = Auction.builder()
+                .id(auctionId)
+                .productSizeId(UUID.randomUUID())
+                .sellerId(sellerId)
+                .auctionTitle("Test Auction")
+                .condition(AuctionCondition.NEW)
+                .priceInfo(priceInfo)
+                .period(period)
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(AuctionStatus.ACTIVE)
+                .build();
+
+        lenient().when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bidSequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 경매의 입찰은 제출 순서대로 커밋된다")
+    void shouldCommitBidsInSubmissionOrder() {
+        // Given
+        List<Long> committed = new ArrayList<>();
+        when(bidService.placeBid(eq(auctionId), any(UUID.class), anyLong(), isNull())).thenAnswer(invocation -> {
+            Long amount = invocation.getArgument(2);
+            committed.add(amount);
+            return bid(invocation.getArgument(1), amount);
+        });
+
+        // When
+        List<CompletableFuture<Bid>> futures = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            futures.add(bidSequencer.submit(auctionId, UUID.randomUUID(), 300000L + i * 10000L));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertThat(committed).isSorted().hasSize(20);
+        verify(auctionRepository, times(1)).findById(auctionId);
+    }
+
+    @Test
+    @DisplayName("스냅샷 기준 최소 입찰가 미만이면 DB 커밋 없이 거절된다")
+    void shouldRejectLowBidWithoutCommit() {
+        // Given
+        when(bidService.placeBid(eq(auctionId), any(UUID.class), anyLong(), isNull()))
+                .thenAnswer(invocation -> bid(invocation.getArgument(1), invocation.getArgument(2)));
+        bidSequencer.placeBid(auctionId, UUID.randomUUID(), 350000L);
+
+        // When & Then
+        assertThatThrownBy(() -> bidSequencer.placeBid(auctionId, UUID.randomUUID(), 355000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최소 입찰가");
+        verify(bidService, times(1)).placeBid(eq(auctionId), any(UUID.class), anyLong(), isNull());
+    }
+
+    @Test
+    @DisplayName("판매자의 입찰은 레인에서 거절된다")
+    void shouldRejectSellerBid() {
+        assertThatThrownBy(() -> bidSequencer.placeBid(auctionId, sellerId, 350000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("본인의 경매에는 입찰할 수 없습니다");
+        verifyNoInteractions(bidService);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌 시 스냅샷을 다시 읽고 한 번 재시도한다")
+    void shouldRetryOnceOnOptimisticLockFailure() {
+        // Given
+        UUID bidderId = UUID.randomUUID();
+        when(bidService.placeBid(auctionId, bidderId, 350000L, null))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Auction.class, auctionId))
+                .thenReturn(bid(bidderId, 350000L));
+
+        // When
+        Bid result = bidSequencer.placeBid(auctionId, bidderId, 350000L);
+
+        // Then
+        assertThat(result.getAmount()).isEqualTo(350000L);
+        verify(bidService, times(2)).placeBid(auctionId, bidderId, 350000L, null);
+        verify(auctionRepository, times(2)).findById(auctionId);
+    }
+
+    @Test
+    @DisplayName("커밋이 이미 시작된 입찰은 대기 시간이 지나도 실패로 응답하지 않는다")
+    void shouldWaitForBidAlreadyCommitting() throws InterruptedException {
+        // Given
+        BidSequencer slowSequencer = new BidSequencer(bidService, auctionRepository, 1, 100, 16, 50, 300000);
+        UUID bidderId = UUID.randomUUID();
+        when(bidService.placeBid(auctionId, bidderId, 350000L, null)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return bid(bidderId, 350000L);
+        });
+
+        try {
+            // When
+            Bid result = slowSequencer.placeBid(auctionId, bidderId, 350000L);
+
+            // Then
+            assertThat(result.getAmount()).isEqualTo(350000L);
+        } finally {
+            slowSequencer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 꺼내지지 않은 입찰은 취소되어 커밋되지 않는다")
+    void shouldCancelBidNotYetStarted() throws InterruptedException {
+        // Given
+        BidSequencer slowSequencer = new BidSequencer(bidService, auctionRepository, 1, 100, 16, 50, 300000);
+        UUID firstBidderId = UUID.randomUUID();
+        UUID secondBidderId = UUID.randomUUID();
+        when(bidService.placeBid(auctionId, firstBidderId, 350000L, null)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return bid(firstBidderId, 350000L);
+        });
+
+        try {
+            // When
+            CompletableFuture<Bid> first = slowSequencer.submit(auctionId, firstBidderId, 350000L);
+
+            // Then
+            assertThatThrownBy(() -> slowSequencer.placeBid(auctionId, secondBidderId, 400000L))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("시간이 초과");
+            first.join();
+            verify(bidService, never()).placeBid(eq(auctionId), eq(secondBidderId), anyLong(), isNull());
+        } finally {
+            slowSequencer.shutdown();
+        }
+    }
+
+    private Bid bid(UUID bidderId, Long amount) {
+        Bid bid = Bid.builder()
+                .id(UUID.randomUUID())
+                .auctionId(auctionId)
+                .bidderId(bidderId)
+                .amount(amount)
+                .build();
+        bid.markAsHighest();
+        return bid;
+    }
+}
@@ -0,0 +1,203 @@
+package com.bidket.auction.application.bid.service;
+
+import com.bidket.auction.application.bid.dto.request.CreateBidRequest;
+import com.bidket.auction.application.bid.dto.response.BidResponse;
+import com.bidket.auction.application.bid.sequencer.BidSequencer;
+import com.bidket.auction.domain.bid.model.Bid;
+import com.bidket.auction.infrastructure.redis.BidIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BidPlacementService 테스트")
+class BidPlacementServiceTest {
+
+    @Mock
+    private BidSequencer bidSequencer;
+
+    @Mock
+    private BidService bidService;
+
+    @Mock
+    private RedisBidAcceptanceService redisBidAcceptanceService;
+
+    @Mock
+    private BidIdempotencyStore bidIdempotencyStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private BidPlacementService bidPlacementService;
+
+    private UUID auctionId;
+    private UUID bidderId;
+    private String scopedKey;
+
+    @BeforeEach
+    void setUp() {
+        bidPlacementService = new BidPlacementService(
+                bidSequencer, bidService, redisBidAcceptanceService, bidIdempotencyStore, objectMapper);
+        ReflectionTestUtils.setField(bidPlacementService, "placementMode", BidPlacementMode.SEQUENCER);
+        auctionId = UUID.randomUUID();
+        bidderId = UUID.randomUUID();
+        scopedKey = bidderId + ":retry-1";
+    }
+
+    @Test
+    @DisplayName("첫 요청은 입찰을 처리하고 응답을 캐시에 저장한다")
+    void createBid_FirstRequest_PlacesAndCachesResponse() {
+        // Given
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.empty());
+        when(bidIdempotencyStore.reserve(scopedKey)).thenReturn(true);
+        when(bidService.getBidByIdempotencyKey(scopedKey)).thenReturn(Optional.empty());
+        when(bidSequencer.placeBid(auctionId, bidderId, 350000L, scopedKey)).thenReturn(bid(350000L));
+
+        // When
+        BidResponse response = bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 350000L), "retry-1");
+
+        // Then
+        assertThat(response.amount()).isEqualTo(350000L);
+        ArgumentCaptor<String> cached = ArgumentCaptor.forClass(String.class);
+        verify(bidIdempotencyStore).complete(eq(scopedKey), cached.capture());
+        assertThat(cached.getValue()).contains(response.id().toString());
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도는 캐시 조회만으로 기존 응답을 반환한다")
+    void createBid_Retry_ReplaysCachedResponse() throws Exception {
+        // Given
+        BidResponse original = BidResponse.from(bid(350000L), null);
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.of(objectMapper.writeValueAsString(original)));
+
+        // When
+        BidResponse response = bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 350000L), "retry-1");
+
+        // Then
+        assertThat(response.id()).isEqualTo(original.id());
+        verify(bidIdempotencyStore, never()).reserve(anyString());
+        verifyNoInteractions(bidSequencer, bidService);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 다시 요청하면 거절된다")
+    void createBid_WhilePending_ThrowsException() {
+        // Given
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.of(BidIdempotencyStore.PENDING));
+
+        // When & Then
+        assertThatThrownBy(() -> bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 350000L), "retry-1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("처리 중입니다");
+        verifyNoInteractions(bidSequencer);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 금액을 요청하면 거절된다")
+    void createBid_SameKeyDifferentAmount_ThrowsException() throws Exception {
+        // Given
+        BidResponse original = BidResponse.from(bid(350000L), null);
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.of(objectMapper.writeValueAsString(original)));
+
+        // When & Then
+        assertThatThrownBy(() -> bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 360000L), "retry-1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("다른 입찰");
+    }
+
+    @Test
+    @DisplayName("입찰이 실패하면 키를 해제해 다시 시도할 수 있다")
+    void createBid_Failure_ReleasesKey() {
+        // Given
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.empty());
+        when(bidIdempotencyStore.reserve(scopedKey)).thenReturn(true);
+        when(bidService.getBidByIdempotencyKey(scopedKey)).thenReturn(Optional.empty());
+        when(bidSequencer.placeBid(auctionId, bidderId, 350000L, scopedKey))
+                .thenThrow(new IllegalArgumentException("최소 입찰가는 360000원입니다"));
+
+        // When & Then
+        assertThatThrownBy(() -> bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 350000L), "retry-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(bidIdempotencyStore).release(scopedKey);
+        verify(bidIdempotencyStore, never()).complete(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("응답 캐시가 만료된 재시도는 저장된 입찰을 현재 최고가 입찰 기준으로 응답한다")
+    void createBid_RetryAfterCacheExpiry_ReplaysStoredBid() {
+        // Given
+        BidResponse stored = BidResponse.from(bid(350000L), UUID.randomUUID());
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.empty());
+        when(bidIdempotencyStore.reserve(scopedKey)).thenReturn(true);
+        when(bidService.getBidByIdempotencyKey(scopedKey)).thenReturn(Optional.of(stored));
+
+        // When
+        BidResponse response = bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 350000L), "retry-1");
+
+        // Then
+        assertThat(response).isEqualTo(stored);
+        verifyNoInteractions(bidSequencer, redisBidAcceptanceService);
+    }
+
+    @Test
+    @DisplayName("REDIS 입찰 모드에서도 Idempotency-Key 를 입찰 수락까지 전달한다")
+    void createBid_RedisMode_PassesIdempotencyKey() {
+        // Given
+        ReflectionTestUtils.setField(bidPlacementService, "placementMode", BidPlacementMode.REDIS);
+        BidResponse accepted = BidResponse.from(bid(350000L), null);
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.empty());
+        when(bidIdempotencyStore.reserve(scopedKey)).thenReturn(true);
+        when(bidService.getBidByIdempotencyKey(scopedKey)).thenReturn(Optional.empty());
+        when(redisBidAcceptanceService.accept(auctionId, bidderId, 350000L, scopedKey)).thenReturn(accepted);
+
+        // When
+        BidResponse response = bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 350000L), "retry-1");
+
+        // Then
+        assertThat(response).isEqualTo(accepted);
+        verifyNoInteractions(bidSequencer);
+    }
+
+    @Test
+    @DisplayName("처리 중 표식이 만료된 뒤 앞선 요청이 먼저 커밋되었으면 키 충돌 대신 그 입찰로 응답한다")
+    void createBid_KeyConflict_ReplaysCommittedBid() {
+        // Given
+        BidResponse committed = BidResponse.from(bid(350000L), null);
+        when(bidIdempotencyStore.find(scopedKey)).thenReturn(Optional.empty());
+        when(bidIdempotencyStore.reserve(scopedKey)).thenReturn(true);
+        when(bidService.getBidByIdempotencyKey(scopedKey)).thenReturn(Optional.empty(), Optional.of(committed));
+        when(bidSequencer.placeBid(auctionId, bidderId, 350000L, scopedKey))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // When
+        BidResponse response = bidPlacementService.createBid(bidderId, new CreateBidRequest(auctionId, 350000L), "retry-1");
+
+        // Then
+        assertThat(response).isEqualTo(committed);
+        verify(bidIdempotencyStore, never()).release(scopedKey);
+    }
+
+    private Bid bid(Long amount) {
+        return Bid.builder()
+                .id(UUID.randomUUID())
+                .auctionId(auctionId)
+                .bidderId(bidderId)
+                .amount(amount)
+                .build();
+    }
+}
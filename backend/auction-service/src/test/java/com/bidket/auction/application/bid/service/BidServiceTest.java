@@ -1,10 +1,16 @@
 package com.bidket.auction.application.bid.service;
 
+import com.bidket.auction.application.bid.dto.response.BidCursor;
+import com.bidket.auction.application.bid.dto.response.BidPageResponse;
+import com.bidket.auction.application.bid.dto.response.BidResponse;
+import com.bidket.auction.application.bid.proxy.ProxyBidEngine;
+import com.bidket.auction.application.bid.proxy.VisibleBid;
 import com.bidket.auction.domain.auction.model.Auction;
 import com.bidket.auction.domain.auction.model.AuctionCondition;
 import com.bidket.auction.domain.auction.model.AuctionStatus;
 import com.bidket.auction.domain.bid.model.Bid;
 import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.model.BidSummary;
 import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
 import com.bidket.auction.domain.auction.model.vo.AuctionStats;
 import com.bidket.auction.domain.auction.model.vo.PriceInfo;
@@ -20,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,6 +44,9 @@ class BidServiceTest {
     @Mock
     private AuctionRepository auctionRepository;
 
+    @Mock
+    private ProxyBidEngine proxyBidEngine;
+
     @InjectMocks
     private BidService bidService;
 
@@ -84,7 +94,6 @@ class BidServiceTest {
         // Given
         Long bidAmount = 350000L;
         when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction));
-        when(bidRepository.findHighestBidByAuctionId(auctionId)).thenReturn(Optional.empty());
         when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
@@ -93,8 +102,9 @@ class BidServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getAmount()).isEqualTo(bidAmount);
-        assertThat(result.isHighest()).isTrue();
         assertThat(result.getStatus()).isEqualTo(BidStatus.ACTIVE);
+        assertThat(activeAuction.getHighestBid().getBidderId()).isEqualTo(bidderId);
+        assertThat(activeAuction.getHighestBid().getAmount()).isEqualTo(bidAmount);
         verify(bidRepository).save(any(Bid.class));
         verify(auctionRepository).save(activeAuction);
     }
@@ -137,6 +147,64 @@ class BidServiceTest {
                 .hasMessageContaining("ACTIVE 상태의 경매에만 입찰할 수 있습니다");
     }
 
+    @Test
+    @DisplayName("종료 직전 입찰은 현재가와 함께 종료 시각을 연장한다")
+    void shouldExtendAuctionOnLateBid() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(1);
+        Auction closingAuction = Auction.builder()
+                .id(auctionId)
+                .productSizeId(UUID.randomUUID())
+                .sellerId(sellerId)
+                .auctionTitle("Test Auction")
+                .condition(AuctionCondition.NEW)
+                .priceInfo(PriceInfo.builder()
+                        .startPrice(300000L)
+                        .currentPrice(300000L)
+                        .bidIncrement(10000L)
+                        .build())
+                .period(AuctionPeriod.builder()
+                        .startTime(LocalDateTime.now().minusHours(1))
+                        .endTime(endTime)
+                        .originalEndTime(endTime)
+                        .extensionCount(0)
+                        .build())
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(AuctionStatus.ACTIVE)
+                .build();
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(closingAuction));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        bidService.placeBid(auctionId, bidderId, 350000L);
+
+        // Then
+        assertThat(closingAuction.getPriceInfo().getCurrentPrice()).isEqualTo(350000L);
+        assertThat(closingAuction.getPeriod().getEndTime()).isEqualTo(endTime.plusMinutes(5));
+        verify(auctionRepository).save(closingAuction);
+    }
+
+    @Test
+    @DisplayName("자동 입찰 상한이 더 높으면 일반 입찰은 밀리고 자동 입찰의 응답이 최고가가 된다")
+    void shouldRecordProxyResponseWhenOutbid() {
+        // Given
+        UUID proxyBidderId = UUID.randomUUID();
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(proxyBidEngine.respondTo(activeAuction, bidderId, 350000L))
+                .thenReturn(Optional.of(new VisibleBid(proxyBidderId, 360000L, false)));
+
+        // When
+        Bid result = bidService.placeBid(auctionId, bidderId, 350000L);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(BidStatus.OUTBID);
+        assertThat(activeAuction.getPriceInfo().getCurrentPrice()).isEqualTo(360000L);
+        assertThat(activeAuction.getHighestBid().getBidderId()).isEqualTo(proxyBidderId);
+        verify(bidRepository, times(2)).save(any(Bid.class));
+    }
+
     @Test
     @DisplayName("판매자는 자신의 경매에 입찰할 수 없다")
     void shouldNotPlaceBidOnOwnAuction() {
@@ -162,33 +230,30 @@ class BidServiceTest {
     }
 
     @Test
-    @DisplayName("이전 최고가 입찰을 OUTBID 상태로 변경한다")
-    void shouldMarkPreviousHighestBidAsOutbid() {
+    @DisplayName("이전 최고가 입찰 행은 수정하지 않고 최고가 포인터만 옮긴다")
+    void shouldMovePointerWithoutUpdatingPreviousBid() {
         // Given
         Long bidAmount = 350000L;
-        UUID previousBidderId = UUID.randomUUID();
-        
         Bid previousHighestBid = Bid.builder()
                 .id(UUID.randomUUID())
                 .auctionId(auctionId)
-                .bidderId(previousBidderId)
+                .bidderId(UUID.randomUUID())
                 .amount(310000L)
+                .status(BidStatus.ACTIVE)
                 .build();
-        previousHighestBid.markAsHighest();
+        activeAuction.recordHighestBid(previousHighestBid.getId(), previousHighestBid.getBidderId(), 310000L);
 
         when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction));
-        when(bidRepository.findHighestBidByAuctionId(auctionId))
-                .thenReturn(Optional.of(previousHighestBid));
         when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
-        Bid result = bidService.placeBid(auctionId, bidderId, bidAmount);
+        bidService.placeBid(auctionId, bidderId, bidAmount);
 
         // Then
-        assertThat(previousHighestBid.getStatus()).isEqualTo(BidStatus.OUTBID);
-        assertThat(previousHighestBid.isHighest()).isFalse();
-        assertThat(result.isHighest()).isTrue();
-        verify(bidRepository, times(2)).save(any(Bid.class));
+        assertThat(previousHighestBid.getStatus()).isEqualTo(BidStatus.ACTIVE);
+        assertThat(previousHighestBid.resolveStatus(activeAuction.getHighestBidId())).isEqualTo(BidStatus.OUTBID);
+        assertThat(activeAuction.getHighestBid().getBidderId()).isEqualTo(bidderId);
+        verify(bidRepository, times(1)).save(any(Bid.class));
     }
 
     @Test
@@ -197,7 +262,6 @@ class BidServiceTest {
         // Given
         Long bidAmount = 350000L;
         when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction));
-        when(bidRepository.findHighestBidByAuctionId(auctionId)).thenReturn(Optional.empty());
         when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
@@ -208,5 +272,42 @@ class BidServiceTest {
             auction.getPriceInfo().getCurrentPrice().equals(bidAmount)
         ));
     }
-}
 
+    @Test
+    @DisplayName("limit + 1 건이 조회되면 다음 페이지 커서를 마지막 입찰 기준으로 내려준다")
+    void shouldReturnNextCursorWhenMoreBidsExist() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        BidSummary newest = summary(now, 330000L);
+        BidSummary middle = summary(now.minusSeconds(1), 320000L);
+        BidSummary oldest = summary(now.minusSeconds(2), 310000L);
+        activeAuction.recordHighestBid(newest.id(), newest.bidderId(), newest.amount());
+
+        when(bidRepository.findSummariesByAuctionId(auctionId, null, null, 3))
+                .thenReturn(List.of(newest, middle, oldest));
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction));
+
+        // When
+        BidPageResponse page = bidService.getBidsByAuction(auctionId, null, 2);
+
+        // Then
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.bids()).extracting(BidResponse::id).containsExactly(newest.id(), middle.id());
+        assertThat(page.bids()).extracting(BidResponse::status).containsExactly(BidStatus.ACTIVE, BidStatus.OUTBID);
+        assertThat(BidCursor.decode(page.nextCursor())).isEqualTo(new BidCursor(middle.createdAt(), middle.id()));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 거절된다")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> bidService.getBidsByAuction(auctionId, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+        verifyNoInteractions(bidRepository);
+    }
+
+    private BidSummary summary(LocalDateTime createdAt, Long amount) {
+        return new BidSummary(UUID.randomUUID(), auctionId, UUID.randomUUID(), amount, false,
+                BidStatus.ACTIVE, null, null, createdAt);
+    }
+}
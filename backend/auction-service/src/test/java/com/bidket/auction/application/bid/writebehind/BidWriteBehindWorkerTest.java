@@ -0,0 +1,269 @@
+package com.bidket.auction.application.bid.writebehind;
+
+import com.bidket.auction.domain.auction.model.Auction;
+import com.bidket.auction.domain.auction.model.AuctionCondition;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
+import com.bidket.auction.domain.auction.model.vo.AuctionStats;
+import com.bidket.auction.domain.auction.model.vo.PriceInfo;
+import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
+import com.bidket.auction.domain.auction.repository.AuctionRepository;
+import com.bidket.auction.domain.bid.model.Bid;
+import com.bidket.auction.domain.bid.model.BidStatus;
+import com.bidket.auction.domain.bid.repository.BidRepository;
+import com.bidket.auction.infrastructure.redis.LockHandle;
+import com.bidket.auction.infrastructure.redis.RedisBidStore;
+import com.bidket.auction.infrastructure.redis.RedisLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BidWriteBehindWorker 테스트")
+class BidWriteBehindWorkerTest {
+
+    @Mock
+    private RedisBidStore redisBidStore;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private BidWriteBehindWorker worker;
+
+    private UUID auctionId;
+
+    @BeforeEach
+    void setUp() {
+        auctionId = UUID.randomUUID();
+        ReflectionTestUtils.setField(worker, "batchSize", 500);
+
+        when(redisLockService.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of(mock(LockHandle.class)));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("재전송된 입찰과 새 입찰이 섞인 배치에서는 새 입찰만 저장한다")
+    void shouldPersistOnlyNewBidsInMixedBatch() {
+        // Given
+        UUID bidderId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        String redelivered = payload(bidderId, 310000L, now, 1);
+        String fresh = payload(bidderId, 320000L, now, 2);
+
+        when(redisBidStore.peekWriteBehind(500)).thenReturn(List.of(redelivered, fresh));
+        when(bidRepository.findExistingIdempotencyKeys(anyCollection()))
+                .thenReturn(Set.of("wb:" + auctionId + ":1"));
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction()));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        worker.flush();
+
+        // Then
+        ArgumentCaptor<Bid> saved = ArgumentCaptor.forClass(Bid.class);
+        verify(bidRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getAmount()).isEqualTo(320000L);
+        verify(redisBidStore).moveToDeadLetter(List.of());
+        verify(redisBidStore).trimWriteBehind(2);
+    }
+
+    @Test
+    @DisplayName("배치 전체가 이미 반영되었으면 경매를 읽지 않고 건너뛴다")
+    void shouldSkipFullyRedeliveredBatch() {
+        // Given
+        long now = System.currentTimeMillis();
+        String redelivered = payload(UUID.randomUUID(), 310000L, now, 1);
+
+        when(redisBidStore.peekWriteBehind(500)).thenReturn(List.of(redelivered));
+        when(bidRepository.findExistingIdempotencyKeys(anyCollection()))
+                .thenReturn(Set.of("wb:" + auctionId + ":1"));
+
+        // When
+        worker.flush();
+
+        // Then
+        verify(bidRepository, never()).save(any(Bid.class));
+        verifyNoInteractions(auctionRepository);
+    }
+
+    @Test
+    @DisplayName("클라이언트 Idempotency-Key 가 있으면 그 키로 입찰을 저장한다")
+    void shouldPersistClientIdempotencyKey() {
+        // Given
+        UUID bidderId = UUID.randomUUID();
+        String clientKey = bidderId + ":retry|1";
+        String accepted = payload(bidderId, 310000L, System.currentTimeMillis(), 1) + "|" + clientKey;
+
+        when(redisBidStore.peekWriteBehind(500)).thenReturn(List.of(accepted));
+        when(bidRepository.findExistingIdempotencyKeys(List.of(clientKey))).thenReturn(Set.of());
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction()));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        worker.flush();
+
+        // Then
+        ArgumentCaptor<Bid> saved = ArgumentCaptor.forClass(Bid.class);
+        verify(bidRepository).save(saved.capture());
+        assertThat(saved.getValue().getBidMetadata().getIdempotencyKey()).isEqualTo(clientKey);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 두 번 수락된 입찰은 한 번만 저장한다")
+    void shouldPersistDuplicateKeyOnce() {
+        // Given
+        UUID bidderId = UUID.randomUUID();
+        String clientKey = bidderId + ":retry-1";
+        long now = System.currentTimeMillis();
+        String first = payload(bidderId, 310000L, now, 1) + "|" + clientKey;
+        String retried = payload(bidderId, 310000L, now + 1, 2) + "|" + clientKey;
+
+        when(redisBidStore.peekWriteBehind(500)).thenReturn(List.of(first, retried));
+        when(bidRepository.findExistingIdempotencyKeys(anyCollection())).thenReturn(Set.of());
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(activeAuction()));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        worker.flush();
+
+        // Then
+        verify(bidRepository, times(1)).save(any(Bid.class));
+        verify(bidRepository, times(1)).saveIdempotencyKey(eq(clientKey), any());
+    }
+
+    @Test
+    @DisplayName("종료 처리가 먼저 커밋되어도 종료 시각 전에 수락된 입찰은 반영하고 유찰을 낙찰로 바로잡는다")
+    void shouldPersistBidAcceptedBeforeEndOnEndedAuction() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().minusSeconds(1);
+        Auction auction = endedAuction(AuctionStatus.EXPIRED, endTime);
+        UUID bidderId = UUID.randomUUID();
+        long acceptedAt = endTime.minusSeconds(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        when(redisBidStore.peekWriteBehind(500)).thenReturn(List.of(payload(bidderId, 310000L, acceptedAt, 1)));
+        when(bidRepository.findExistingIdempotencyKeys(anyCollection())).thenReturn(Set.of());
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        worker.flush();
+
+        // Then
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.SUCCESS);
+        assertThat(auction.getPriceInfo().getCurrentPrice()).isEqualTo(310000L);
+        assertThat(auction.getHighestBid().getBidderId()).isEqualTo(bidderId);
+        verify(auctionRepository).save(auction);
+        verify(redisBidStore).moveToDeadLetter(List.of());
+    }
+
+    @Test
+    @DisplayName("종료 시각 이후에 수락된 입찰은 경매에 반영하지 않고 거절 상태로 남긴다")
+    void shouldRejectBidAcceptedAfterEnd() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().minusMinutes(1);
+        Auction auction = endedAuction(AuctionStatus.SUCCESS, endTime);
+        long acceptedAt = endTime.plusSeconds(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        when(redisBidStore.peekWriteBehind(500)).thenReturn(List.of(payload(UUID.randomUUID(), 310000L, acceptedAt, 1)));
+        when(bidRepository.findExistingIdempotencyKeys(anyCollection())).thenReturn(Set.of());
+        when(auctionRepository.findById(auctionId)).thenReturn(Optional.of(auction));
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        worker.flush();
+
+        // Then
+        ArgumentCaptor<Bid> saved = ArgumentCaptor.forClass(Bid.class);
+        verify(bidRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(BidStatus.REJECTED);
+        assertThat(auction.getPriceInfo().getCurrentPrice()).isEqualTo(300000L);
+        verify(redisBidStore).moveToDeadLetter(List.of());
+    }
+
+    private String payload(UUID bidderId, long amount, long acceptedAt, long sequence) {
+        return String.join("|", auctionId.toString(), bidderId.toString(),
+                Long.toString(amount), Long.toString(acceptedAt), Long.toString(sequence));
+    }
+
+    private Auction activeAuction() {
+        return Auction.builder()
+                .id(auctionId)
+                .productSizeId(UUID.randomUUID())
+                .sellerId(UUID.randomUUID())
+                .auctionTitle("Test Auction")
+                .condition(AuctionCondition.NEW)
+                .priceInfo(PriceInfo.builder()
+                        .startPrice(300000L)
+                        .currentPrice(300000L)
+                        .bidIncrement(10000L)
+                        .build())
+                .period(AuctionPeriod.builder()
+                        .startTime(LocalDateTime.now().minusHours(1))
+                        .endTime(LocalDateTime.now().plusHours(1))
+                        .originalEndTime(LocalDateTime.now().plusHours(1))
+                        .extensionCount(0)
+                        .build())
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+
+    private Auction endedAuction(AuctionStatus status, LocalDateTime endTime) {
+        return Auction.builder()
+                .id(auctionId)
+                .productSizeId(UUID.randomUUID())
+                .sellerId(UUID.randomUUID())
+                .auctionTitle("Test Auction")
+                .condition(AuctionCondition.NEW)
+                .priceInfo(PriceInfo.builder()
+                        .startPrice(300000L)
+                        .currentPrice(300000L)
+                        .bidIncrement(10000L)
+                        .build())
+                .period(AuctionPeriod.builder()
+                        .startTime(endTime.minusHours(2))
+                        .endTime(endTime)
+                        .originalEndTime(endTime)
+                        .extensionCount(0)
+                        .build())
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(status)
+                .build();
+    }
+}
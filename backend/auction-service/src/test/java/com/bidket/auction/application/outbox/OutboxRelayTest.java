@@ -0,0 +1,123 @@
+package com.bidket.auction.application.outbox;
+
+import com.bidket.auction.domain.outbox.model.OutboxEvent;
+import com.bidket.auction.domain.outbox.repository.OutboxEventRepository;
+import com.bidket.auction.infrastructure.config.KafkaConfig;
+import com.bidket.auction.infrastructure.redis.ShardLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private ShardLeaseManager shardLeaseManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, kafkaTemplate, shardLeaseManager,
+                transactionTemplate, new SimpleMeterRegistry(), 100, 1000L);
+
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("리더가 아니면 outbox 를 읽지 않는다")
+    void relay_NotLeader_DoesNothing() {
+        // Given
+        when(shardLeaseManager.isLeader()).thenReturn(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verifyNoInteractions(outboxEventRepository, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("이벤트를 경매 ID 키로 발행한 뒤 삭제한다")
+    void publishBatch_SendsKeyedByAuctionIdAndDeletes() {
+        // Given
+        UUID auctionId = UUID.randomUUID();
+        List<OutboxEvent> events = List.of(
+                OutboxEvent.of(KafkaConfig.BID_EVENTS_TOPIC, auctionId, OutboxEventRecorder.BID_PLACED, "{\"amount\":1}"),
+                OutboxEvent.of(KafkaConfig.BID_EVENTS_TOPIC, auctionId, OutboxEventRecorder.BID_PLACED, "{\"amount\":2}"));
+        when(outboxEventRepository.findOldest(anyInt())).thenReturn(events);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+        // When
+        int published = outboxRelay.publishBatch();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        assertThat(records.getAllValues())
+                .extracting(ProducerRecord::key, ProducerRecord::value)
+                .containsExactly(
+                        tuple(auctionId.toString(), "{\"amount\":1}"),
+                        tuple(auctionId.toString(), "{\"amount\":2}"));
+        verify(outboxEventRepository).deleteByIds(argThat((Collection<Long> ids) -> ids.size() == 2));
+        assertThat(published).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발행 실패 이후의 이벤트는 삭제하지 않아 다음 주기에 순서대로 재발행된다")
+    void publishBatch_KeepsEventsFromFirstFailure() {
+        // Given
+        UUID auctionId = UUID.randomUUID();
+        List<OutboxEvent> events = List.of(
+                OutboxEvent.of(KafkaConfig.AUCTION_EVENTS_TOPIC, auctionId, OutboxEventRecorder.AUCTION_SCHEDULE_CHANGED, "1"),
+                OutboxEvent.of(KafkaConfig.AUCTION_EVENTS_TOPIC, auctionId, OutboxEventRecorder.AUCTION_SCHEDULE_CHANGED, "2"),
+                OutboxEvent.of(KafkaConfig.AUCTION_EVENTS_TOPIC, auctionId, OutboxEventRecorder.AUCTION_SCHEDULE_CHANGED, "3"));
+        when(outboxEventRepository.findOldest(anyInt())).thenReturn(events);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(null))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+        // When
+        int published = outboxRelay.publishBatch();
+
+        // Then
+        verify(outboxEventRepository).deleteByIds(argThat((Collection<Long> ids) -> ids.size() == 1));
+        assertThat(published).isZero();
+    }
+}
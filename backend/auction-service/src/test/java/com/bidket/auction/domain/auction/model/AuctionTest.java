@@ -1,5 +1,10 @@
 package com.bidket.auction.domain.auction.model;
 
+import com.bidket.auction.domain.auction.event.AuctionScheduleChangedEvent;
+import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
+import com.bidket.auction.domain.auction.model.vo.AuctionStats;
+import com.bidket.auction.domain.auction.model.vo.PriceInfo;
+import com.bidket.auction.domain.auction.model.vo.WinnerInfo;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -235,7 +240,123 @@ class AuctionTest {
                 .hasMessageContaining("최대 연장 횟수를 초과했습니다");
     }
 
+    @Test
+    @DisplayName("경매 연장 - 새 종료 시각으로 예약 변경 이벤트를 등록")
+    void extendAuction_RegistersScheduleChangedEvent() {
+        // Given
+        Auction auction = createValidAuction();
+        auction.confirmCreation();
+        auction.start();
+        auction.clearDomainEvents();
+
+        // When
+        auction.extend();
+
+        // Then
+        assertThat(auction.domainEvents())
+                .singleElement()
+                .isInstanceOfSatisfying(AuctionScheduleChangedEvent.class, event -> {
+                    assertThat(event.status()).isEqualTo(AuctionStatus.ACTIVE);
+                    assertThat(event.endTime()).isEqualTo(auction.getPeriod().getEndTime());
+                });
+    }
+
+    @Test
+    @DisplayName("최고가 입찰 반영 - 현재가, 입찰 수, 최고가 포인터를 함께 갱신")
+    void recordHighestBid_UpdatesPriceAndPointer() {
+        // Given
+        Auction auction = createValidAuction();
+        auction.confirmCreation();
+        auction.start();
+        UUID bidId = UUID.randomUUID();
+        UUID bidderId = UUID.randomUUID();
+
+        // When
+        auction.recordHighestBid(bidId, bidderId, 260000L);
+
+        // Then
+        assertThat(auction.getPriceInfo().getCurrentPrice()).isEqualTo(260000L);
+        assertThat(auction.getStats().getTotalBidsCount()).isEqualTo(1);
+        assertThat(auction.getHighestBidId()).isEqualTo(bidId);
+        assertThat(auction.getHighestBid().getBidderId()).isEqualTo(bidderId);
+    }
+
+    @Test
+    @DisplayName("종료 직전 입찰 - 현재가 갱신과 함께 종료 시각을 연장하고 예약 변경 이벤트를 등록")
+    void recordHighestBid_InSoftCloseWindow_ExtendsEndTime() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(2);
+        Auction auction = createActiveAuctionEndingAt(endTime, 0);
+
+        // When
+        auction.recordHighestBid(UUID.randomUUID(), UUID.randomUUID(), 260000L, LocalDateTime.now());
+
+        // Then
+        assertThat(auction.getPriceInfo().getCurrentPrice()).isEqualTo(260000L);
+        assertThat(auction.getPeriod().getEndTime()).isEqualTo(endTime.plusMinutes(5));
+        assertThat(auction.getPeriod().getExtensionCount()).isEqualTo(1);
+        assertThat(auction.domainEvents())
+                .filteredOn(AuctionScheduleChangedEvent.class::isInstance)
+                .singleElement()
+                .isInstanceOfSatisfying(AuctionScheduleChangedEvent.class,
+                        event -> assertThat(event.endTime()).isEqualTo(endTime.plusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("종료 직전 입찰 - 최대 연장 횟수에 도달했으면 연장하지 않는다")
+    void recordHighestBid_AfterMaxExtensions_DoesNotExtend() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(2);
+        Auction auction = createActiveAuctionEndingAt(endTime, 3);
+
+        // When
+        auction.recordHighestBid(UUID.randomUUID(), UUID.randomUUID(), 260000L, LocalDateTime.now());
+
+        // Then
+        assertThat(auction.getPeriod().getEndTime()).isEqualTo(endTime);
+        assertThat(auction.domainEvents()).noneMatch(AuctionScheduleChangedEvent.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("종료까지 여유가 있는 입찰은 연장하지 않는다")
+    void recordHighestBid_OutsideSoftCloseWindow_DoesNotExtend() {
+        // Given
+        LocalDateTime endTime = LocalDateTime.now().plusMinutes(30);
+        Auction auction = createActiveAuctionEndingAt(endTime, 0);
+
+        // When
+        auction.recordHighestBid(UUID.randomUUID(), UUID.randomUUID(), 260000L, LocalDateTime.now());
+
+        // Then
+        assertThat(auction.getPeriod().getEndTime()).isEqualTo(endTime);
+        assertThat(auction.getPeriod().getExtensionCount()).isZero();
+    }
+
     // Helper 메서드
+    private Auction createActiveAuctionEndingAt(LocalDateTime endTime, int extensionCount) {
+        return Auction.builder()
+                .id(UUID.randomUUID())
+                .productSizeId(UUID.randomUUID())
+                .sellerId(UUID.randomUUID())
+                .auctionTitle("Test Auction")
+                .condition(AuctionCondition.NEW)
+                .priceInfo(PriceInfo.builder()
+                        .startPrice(250000L)
+                        .currentPrice(250000L)
+                        .bidIncrement(10000L)
+                        .build())
+                .period(AuctionPeriod.builder()
+                        .startTime(endTime.minusDays(1))
+                        .endTime(endTime)
+                        .originalEndTime(endTime)
+                        .extensionCount(extensionCount)
+                        .build())
+                .stats(AuctionStats.createDefault())
+                .winnerInfo(WinnerInfo.empty())
+                .status(AuctionStatus.ACTIVE)
+                .build();
+    }
+
     private Auction createValidAuction() {
         return Auction.builder()
                 .productSizeId(UUID.randomUUID())
@@ -140,5 +140,27 @@ class BidTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("최고가 입찰은 취소할 수 없습니다");
     }
-}
 
+    @Test
+    @DisplayName("최고가 여부와 OUTBID 상태는 경매의 최고가 입찰 포인터로 판단한다")
+    void shouldDeriveHighestFromAuctionPointer() {
+        // Given
+        Bid bid = Bid.builder()
+                .id(UUID.randomUUID())
+                .auctionId(UUID.randomUUID())
+                .bidderId(UUID.randomUUID())
+                .amount(350000L)
+                .status(BidStatus.ACTIVE)
+                .build();
+        UUID otherBidId = UUID.randomUUID();
+
+        // When & Then
+        assertThat(bid.isHighestAgainst(bid.getId())).isTrue();
+        assertThat(bid.resolveStatus(bid.getId())).isEqualTo(BidStatus.ACTIVE);
+        assertThat(bid.isHighestAgainst(otherBidId)).isFalse();
+        assertThat(bid.resolveStatus(otherBidId)).isEqualTo(BidStatus.OUTBID);
+        assertThatThrownBy(() -> bid.cancel(bid.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("최고가 입찰은 취소할 수 없습니다");
+    }
+}
@@ -87,23 +87,23 @@ class BidRepositoryTest {
     }
 
     @Test
-    @DisplayName("경매의 최고가 입찰을 조회할 수 있다")
-    void shouldFindHighestBid() {
+    @DisplayName("경매의 최고가 입찰 포인터는 경매 행에 함께 저장된다")
+    void shouldPersistHighestBidPointerOnAuction() {
         // Given
         Auction auction = createAndSaveAuction();
-        UUID auctionId = auction.getId();
-        Bid bid1 = createAndSaveBid(auctionId, UUID.randomUUID(), 350000L);
-        Bid bid2 = createAndSaveBid(auctionId, UUID.randomUUID(), 360000L);
-        bid2.markAsHighest();
-        bidRepository.save(bid2);
+        auction.confirmCreation();
+        auction.start();
+        Bid bid = createAndSaveBid(auction.getId(), UUID.randomUUID(), 360000L);
 
         // When
-        Optional<Bid> highest = bidRepository.findFirstByAuctionIdAndBidAmount_HighestTrue(auctionId);
+        auction.recordHighestBid(bid.getId(), bid.getBidderId(), bid.getAmount());
+        auctionJpaRepository.saveAndFlush(auction);
 
         // Then
-        assertThat(highest).isPresent();
-        assertThat(highest.get().getAmount()).isEqualTo(360000L);
-        assertThat(highest.get().isHighest()).isTrue();
+        Auction found = auctionJpaRepository.findById(auction.getId()).orElseThrow();
+        assertThat(found.getHighestBidId()).isEqualTo(bid.getId());
+        assertThat(found.getHighestBid().getAmount()).isEqualTo(360000L);
+        assertThat(bidRepository.findById(bid.getId()).orElseThrow().isHighestAgainst(found.getHighestBidId())).isTrue();
     }
 
     private Auction createAndSaveAuction() {
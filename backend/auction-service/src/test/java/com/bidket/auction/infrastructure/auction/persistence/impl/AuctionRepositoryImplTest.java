@@ -3,6 +3,8 @@ package com.bidket.auction.infrastructure.auction.persistence.impl;
 import com.bidket.auction.domain.auction.model.Auction;
 import com.bidket.auction.domain.auction.model.AuctionCondition;
 import com.bidket.auction.domain.auction.model.AuctionStatus;
+import com.bidket.auction.domain.auction.model.ScheduledAuction;
+import com.bidket.auction.domain.auction.model.TransitionedAuction;
 import com.bidket.auction.domain.auction.model.vo.AuctionPeriod;
 import com.bidket.auction.domain.auction.model.vo.AuctionStats;
 import com.bidket.auction.domain.auction.model.vo.PriceInfo;
@@ -14,10 +16,15 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +41,9 @@ class AuctionRepositoryImplTest {
     @Autowired
     private AuctionRepository auctionRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private UUID testProductSizeId;
     private UUID testSellerId;
     private Auction testAuction;
@@ -390,5 +400,154 @@ class AuctionRepositoryImplTest {
             assertThat(updated.getVersion()).isGreaterThan(initialVersion);
         }
     }
-}
 
+    @Nested
+    @DisplayName("조회수 일괄 반영")
+    class UpdateViewCountsTest {
+
+        @Test
+        @DisplayName("성공: 존재하는 경매의 조회수만 갱신되고 갱신된 ID가 반환된다")
+        void updateViewCounts_Success() {
+            // Given
+            Auction saved = auctionRepository.save(testAuction);
+            jpaRepository.flush();
+            UUID missingId = UUID.randomUUID();
+
+            Map<UUID, Integer> viewCounts = new LinkedHashMap<>();
+            viewCounts.put(saved.getId(), 42);
+            viewCounts.put(missingId, 7);
+
+            // When
+            List<UUID> updated = auctionRepository.updateViewCounts(viewCounts);
+            jpaRepository.flush();
+
+            // Then
+            assertThat(updated).containsExactly(saved.getId());
+            Integer viewCount = jdbcTemplate.queryForObject(
+                    "SELECT view_count FROM auction WHERE id = ?", Integer.class, saved.getId());
+            assertThat(viewCount).isEqualTo(42);
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 상태 전이")
+    class BulkTransitionTest {
+
+        @Test
+        @DisplayName("성공: 종료 시각이 지난 ACTIVE 경매만 종료되고 전이 결과가 반환된다")
+        void endDueAuctions_Success() {
+            // Given
+            LocalDateTime pastEndTime = LocalDateTime.now().minusMinutes(1);
+            Auction dueAuction = Auction.builder()
+                    .productSizeId(UUID.randomUUID())
+                    .sellerId(UUID.randomUUID())
+                    .auctionTitle("[종료 대상] 경매")
+                    .condition(AuctionCondition.NEW)
+                    .priceInfo(PriceInfo.builder()
+                            .startPrice(100000L)
+                            .currentPrice(100000L)
+                            .bidIncrement(5000L)
+                            .build())
+                    .period(AuctionPeriod.builder()
+                            .startTime(pastEndTime.minusDays(1))
+                            .endTime(pastEndTime)
+                            .originalEndTime(pastEndTime)
+                            .extensionCount(0)
+                            .build())
+                    .stats(AuctionStats.createDefault())
+                    .winnerInfo(WinnerInfo.empty())
+                    .status(AuctionStatus.CREATING)
+                    .build();
+            dueAuction.confirmCreation();
+            dueAuction.start();
+            Auction saved = auctionRepository.save(dueAuction);
+
+            // 아직 종료 시각이 남은 경매
+            testAuction.confirmCreation();
+            testAuction.start();
+            auctionRepository.save(testAuction);
+            jpaRepository.flush();
+
+            // When
+            List<TransitionedAuction> ended = auctionRepository.endDueAuctions(LocalDateTime.now(), null, 100);
+
+            // Then
+            assertThat(ended).singleElement().satisfies(transitioned -> {
+                assertThat(transitioned.id()).isEqualTo(saved.getId());
+                assertThat(transitioned.status()).isEqualTo(AuctionStatus.EXPIRED);
+            });
+            String status = jdbcTemplate.queryForObject(
+                    "SELECT status FROM auction WHERE id = ?", String.class, testAuction.getId());
+            assertThat(status).isEqualTo(AuctionStatus.ACTIVE.name());
+        }
+
+        @Test
+        @DisplayName("시작 시각이 남은 경매는 ID로 지정해도 시작되지 않는다")
+        void startAuctions_NotDue_Skips() {
+            // Given
+            testAuction.confirmCreation();
+            Auction saved = auctionRepository.save(testAuction);
+            jpaRepository.flush();
+
+            // When
+            List<TransitionedAuction> started = auctionRepository.startAuctions(List.of(saved.getId()), LocalDateTime.now());
+
+            // Then
+            assertThat(started).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("일정 조회")
+    class FindSchedulesTest {
+
+        @Test
+        @DisplayName("성공: 상태별 경매 일정을 id 순 keyset 배치로 끝까지 조회한다")
+        void findSchedules_KeysetPagination() {
+            // Given - PENDING 3 건, ACTIVE 1 건
+            List<UUID> pendingIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Auction pending = Auction.builder()
+                        .productSizeId(UUID.randomUUID())
+                        .sellerId(UUID.randomUUID())
+                        .auctionTitle("[시작 예정] 경매 " + i)
+                        .condition(AuctionCondition.NEW)
+                        .priceInfo(PriceInfo.builder()
+                                .startPrice(100000L)
+                                .currentPrice(100000L)
+                                .bidIncrement(5000L)
+                                .build())
+                        .period(AuctionPeriod.builder()
+                                .startTime(LocalDateTime.now().plusHours(1))
+                                .endTime(LocalDateTime.now().plusDays(1))
+                                .originalEndTime(LocalDateTime.now().plusDays(1))
+                                .extensionCount(0)
+                                .build())
+                        .stats(AuctionStats.createDefault())
+                        .winnerInfo(WinnerInfo.empty())
+                        .status(AuctionStatus.CREATING)
+                        .build();
+                pending.confirmCreation();
+                pendingIds.add(auctionRepository.save(pending).getId());
+            }
+            testAuction.confirmCreation();
+            testAuction.start();
+            auctionRepository.save(testAuction);
+            jpaRepository.flush();
+
+            // When
+            List<ScheduledAuction> firstPage = auctionRepository.findSchedules(AuctionStatus.PENDING, null, 2);
+            List<ScheduledAuction> secondPage = auctionRepository.findSchedules(
+                    AuctionStatus.PENDING, firstPage.get(firstPage.size() - 1).id(), 2);
+
+            // Then - Postgres uuid 비교 순서와 UUID 문자열 사전순이 같다
+            List<UUID> expectedOrder = pendingIds.stream().sorted(Comparator.comparing(UUID::toString)).toList();
+            assertThat(firstPage).extracting(ScheduledAuction::id).containsExactlyElementsOf(expectedOrder.subList(0, 2));
+            assertThat(secondPage).extracting(ScheduledAuction::id).containsExactly(expectedOrder.get(2));
+            assertThat(secondPage.get(0).startTime()).isNotNull();
+            assertThat(auctionRepository.findSchedules(AuctionStatus.ACTIVE, null, 10))
+                    .extracting(ScheduledAuction::id)
+                    .containsExactly(testAuction.getId());
+        }
+    }
+}
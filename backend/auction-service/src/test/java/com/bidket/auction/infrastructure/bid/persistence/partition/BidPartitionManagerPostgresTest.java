@@ -0,0 +1,189 @@
+package com.bidket.auction.infrastructure.bid.persistence.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 실제 PostgreSQL 에서 기존 bid 테이블의 파티션 전환과 파티션 라우팅을 검증한다. Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("BidPartitionManager PostgreSQL 통합 테스트")
+class BidPartitionManagerPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private BidPartitionManager partitionManager;
+    private String legacyPartition;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("DROP SCHEMA public CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA public");
+
+        // 파티션 도입 전 Hibernate 가 만든 형태의 입찰 테이블
+        jdbcTemplate.execute("CREATE TABLE bid (" +
+                "id uuid PRIMARY KEY, auction_id uuid NOT NULL, bidder_id uuid NOT NULL, amount bigint NOT NULL, " +
+                "idempotency_key varchar(100) UNIQUE, created_at timestamp(6))");
+        jdbcTemplate.execute("CREATE INDEX idx_bid_auction_created ON bid (auction_id, created_at)");
+
+        partitionManager = new BidPartitionManager(jdbcTemplate, transactionTemplate, 2, 12);
+        legacyPartition = "bid_legacy_until_" + YearMonth.now().plusMonths(1).format(SUFFIX_FORMAT);
+    }
+
+    @Test
+    @DisplayName("기존 테이블은 데이터와 인덱스를 유지한 채 기존 구간 파티션으로 붙는다")
+    void initialize_MigratesPopulatedLegacyTable() {
+        // Given
+        insertBid(UUID.randomUUID(), "legacy-1", LocalDateTime.now().minusMonths(2));
+        insertBid(UUID.randomUUID(), "legacy-2", LocalDateTime.now().minusDays(1));
+
+        // When
+        partitionManager.initialize();
+
+        // Then
+        assertThat(relkind("bid")).isEqualTo("p");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM bid", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + legacyPartition, Long.class)).isEqualTo(2L);
+
+        List<String> legacyIndexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema() AND tablename = ?",
+                String.class, legacyPartition);
+        assertThat(legacyIndexes)
+                .contains("bid_pkey_legacy", "bid_idempotency_key_key_legacy", "idx_bid_auction_created_legacy");
+    }
+
+    @Test
+    @DisplayName("신규 입찰은 생성 시각에 맞는 파티션으로 들어간다")
+    void insert_RoutesToPartitionByCreatedAt() {
+        // Given
+        insertBid(UUID.randomUUID(), "legacy-1", LocalDateTime.now().minusMonths(2));
+        partitionManager.initialize();
+        YearMonth nextMonth = YearMonth.now().plusMonths(1);
+
+        UUID currentMonthBid = UUID.randomUUID();
+        UUID nextMonthBid = UUID.randomUUID();
+        UUID farFutureBid = UUID.randomUUID();
+
+        // When
+        insertBid(currentMonthBid, "current", LocalDateTime.now());
+        insertBid(nextMonthBid, "next", nextMonth.atDay(1).atTime(0, 0));
+        insertBid(farFutureBid, "future", YearMonth.now().plusMonths(12).atDay(1).atTime(0, 0));
+
+        // Then - 당월까지는 기존 구간 파티션, 이후는 월 파티션, 미리 만들지 않은 구간은 기본 파티션
+        assertThat(partitionOf(currentMonthBid)).isEqualTo(legacyPartition);
+        assertThat(partitionOf(nextMonthBid)).isEqualTo("bid_p" + nextMonth.format(SUFFIX_FORMAT));
+        assertThat(partitionOf(farFutureBid)).isEqualTo("bid_p_default");
+    }
+
+    @Test
+    @DisplayName("idempotency_key 유일성은 기존 구간 파티션 안에서만 유지되고 파티션 사이에서는 보장되지 않는다")
+    void idempotencyKey_UniqueOnlyWithinLegacyPartition() {
+        // Given
+        insertBid(UUID.randomUUID(), "dup", LocalDateTime.now().minusMonths(2));
+        partitionManager.initialize();
+
+        // When & Then - 같은 파티션 안의 중복은 기존 유니크 인덱스가 막는다
+        assertThatThrownBy(() -> insertBid(UUID.randomUUID(), "dup", LocalDateTime.now().minusDays(1)))
+                .isInstanceOf(DuplicateKeyException.class);
+
+        // 다른 파티션에 들어가는 중복은 bid 테이블이 막지 못하므로 유일성은 bid_idempotency 테이블이 맡는다
+        insertBid(UUID.randomUUID(), "dup", YearMonth.now().plusMonths(1).atDay(1).atTime(0, 0));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM bid WHERE idempotency_key = 'dup'", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("재시작해도 이미 파티션 테이블이면 다시 전환하지 않는다")
+    void initialize_IsIdempotent() {
+        // Given
+        insertBid(UUID.randomUUID(), "legacy-1", LocalDateTime.now().minusMonths(2));
+        partitionManager.initialize();
+
+        // When
+        partitionManager.initialize();
+
+        // Then
+        assertThat(relkind("bid")).isEqualTo("p");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM bid", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 레플리카가 동시에 기동해도 한 번만 전환하고 모두 정상 기동한다")
+    void initialize_ConcurrentReplicas_MigrateOnce() {
+        // Given
+        insertBid(UUID.randomUUID(), "legacy-1", LocalDateTime.now().minusMonths(2));
+        BidPartitionManager otherReplica = new BidPartitionManager(jdbcTemplate, transactionTemplate, 2, 12);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            awaitQuietly(ready);
+            partitionManager.initialize();
+        });
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            awaitQuietly(ready);
+            otherReplica.initialize();
+        });
+        ready.countDown();
+
+        // Then
+        assertThatCode(() -> CompletableFuture.allOf(first, second).join()).doesNotThrowAnyException();
+        assertThat(relkind("bid")).isEqualTo("p");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM bid", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + legacyPartition, Long.class)).isEqualTo(1L);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void insertBid(UUID id, String idempotencyKey, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO bid (id, auction_id, bidder_id, amount, idempotency_key, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                id, UUID.randomUUID(), UUID.randomUUID(), 10000L, idempotencyKey, Timestamp.valueOf(createdAt));
+    }
+
+    private String relkind(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT c.relkind::text FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                "WHERE c.relname = ? AND n.nspname = current_schema()",
+                String.class, table);
+    }
+
+    private String partitionOf(UUID bidId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM bid WHERE id = ?", String.class, bidId);
+    }
+}
@@ -0,0 +1,100 @@
+package com.bidket.auction.infrastructure.bid.persistence.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BidPartitionManager 테스트")
+class BidPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BidPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = new BidPartitionManager(jdbcTemplate, transactionTemplate, 2, 12);
+    }
+
+    @Test
+    @DisplayName("기동 시 점검은 트랜잭션 안에서 advisory lock 을 잡은 뒤 테이블 상태를 확인한다")
+    @SuppressWarnings("unchecked")
+    void initialize_ChecksTableAfterAdvisoryLock() {
+        // Given
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(BidPartitionManager.TABLE)))
+                .thenReturn("p");
+        givenPartitions("bid_p_default");
+
+        // When
+        partitionManager.initialize();
+
+        // Then
+        InOrder inOrder = inOrder(transactionTemplate, jdbcTemplate);
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(jdbcTemplate).execute("SELECT pg_advisory_xact_lock(hashtext('bid_partition'))");
+        inOrder.verify(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), eq(BidPartitionManager.TABLE));
+    }
+
+    @Test
+    @DisplayName("없는 월 파티션만 만들고, 기존 테이블 파티션이 덮는 구간은 건너뛴다")
+    void createUpcomingPartitions_SkipsExistingAndLegacyRange() {
+        // Given
+        givenPartitions("bid_legacy_until_202611", "bid_p202612", "bid_p_default");
+
+        // When
+        partitionManager.createUpcomingPartitions(YearMonth.of(2026, 10));
+
+        // Then - 2026-10 은 기존 테이블 파티션, 2026-11 은 기존 테이블 파티션 상한과 같아 생성 대상, 2026-12 는 이미 존재
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS bid_p202611 PARTITION OF bid FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        verify(jdbcTemplate, times(1)).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션은 분리 후 보관용 이름으로 바뀐다")
+    void detachExpiredPartitions_DetachesAndRenames() {
+        // Given
+        givenPartitions("bid_p202509", "bid_p202510", "bid_p_default");
+
+        // When
+        int detached = partitionManager.detachExpiredPartitions(YearMonth.of(2026, 10));
+
+        // Then - 상한이 2025-10 이하인 2025-09 파티션만 분리된다
+        assertThat(detached).isEqualTo(1);
+        verify(jdbcTemplate).execute("ALTER TABLE bid DETACH PARTITION bid_p202509");
+        verify(jdbcTemplate).execute("ALTER TABLE bid_p202509 RENAME TO bid_archive_p202509");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE bid DETACH PARTITION bid_p202510");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE bid DETACH PARTITION bid_p_default");
+    }
+
+    private void givenPartitions(String... names) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(BidPartitionManager.TABLE)))
+                .thenReturn(List.of(names));
+    }
+}
@@ -0,0 +1,102 @@
+package com.bidket.auction.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierCache 테스트")
+class TwoTierCacheTest {
+
+    @Mock
+    private Cache remote;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private MeterRegistry meterRegistry;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoTierCache("auctions", Caffeine.newBuilder().maximumSize(100).build(),
+                remote, invalidationBus, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2 에서 읽은 값은 L1 에 적재되어 이후 조회는 Redis 를 거치지 않는다")
+    void get_PopulatesLocalTier() {
+        // Given
+        UUID key = UUID.randomUUID();
+        when(remote.get(key)).thenReturn(new SimpleValueWrapper("auction"));
+
+        // When
+        Cache.ValueWrapper first = cache.get(key);
+        Cache.ValueWrapper second = cache.get(key);
+
+        // Then
+        assertThat(first.get()).isEqualTo("auction");
+        assertThat(second.get()).isEqualTo("auction");
+        verify(remote, times(1)).get(key);
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 시 L1/L2 를 모두 비우고 다른 노드에 무효화를 전파한다")
+    void evict_InvalidatesBothTiersAndPublishes() {
+        // Given
+        UUID key = UUID.randomUUID();
+        cache.put(key, "auction");
+
+        // When
+        cache.evict(key);
+
+        // Then
+        verify(remote).evict(key);
+        verify(invalidationBus, times(2)).publishEvict("auctions", key.toString());
+        when(remote.get(key)).thenReturn(null);
+        assertThat(cache.get(key)).isNull();
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원격 무효화 메시지를 받으면 L1 만 비운다")
+    void evictLocal_OnlyClearsLocalTier() {
+        // Given
+        UUID key = UUID.randomUUID();
+        cache.put(key, "auction");
+        clearInvocations(remote);
+
+        // When
+        cache.evictLocal(key.toString());
+        when(remote.get(key)).thenReturn(new SimpleValueWrapper("updated"));
+
+        // Then
+        assertThat(cache.get(key).get()).isEqualTo("updated");
+        verify(remote, never()).evict(any());
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("bidket.cache.gets")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
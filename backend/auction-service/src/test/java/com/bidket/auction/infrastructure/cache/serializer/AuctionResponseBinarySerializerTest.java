@@ -0,0 +1,73 @@
+package com.bidket.auction.infrastructure.cache.serializer;
+
+import com.bidket.auction.application.auction.dto.response.AuctionResponse;
+import com.bidket.auction.domain.auction.model.AuctionCondition;
+import com.bidket.auction.domain.auction.model.AuctionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AuctionResponseBinarySerializer 테스트")
+class AuctionResponseBinarySerializerTest {
+
+    private final AuctionResponseBinarySerializer serializer = new AuctionResponseBinarySerializer();
+
+    @Test
+    @DisplayName("직렬화 후 역직렬화하면 원래 값과 같다 (null 필드 포함)")
+    void roundTrip_PreservesAllFields() {
+        // Given
+        AuctionResponse response = sampleResponse();
+
+        // When
+        AuctionResponse restored = serializer.deserialize(serializer.serialize(response));
+
+        // Then
+        assertThat(restored).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 값이나 모르는 스키마 버전은 캐시 미스(null)로 처리한다")
+    void deserialize_UnknownFormat_ReturnsNull() {
+        // Given
+        byte[] json = "{\"@class\":\"AuctionResponse\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] futureVersion = serializer.serialize(sampleResponse());
+        futureVersion[1] = 99;
+
+        // When & Then
+        assertThat(serializer.deserialize(json)).isNull();
+        assertThat(serializer.deserialize(futureVersion)).isNull();
+    }
+
+    static AuctionResponse sampleResponse() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 12, 30, 45, 123456789);
+        return new AuctionResponse(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "[새제품] Nike Air Jordan 1 Retro High OG",
+                "새 제품입니다. 박스 포함, 영수증 있음.",
+                AuctionCondition.DEADSTOCK,
+                250000L,
+                310000L,
+                10000L,
+                null,
+                AuctionStatus.ACTIVE,
+                now.minusHours(1),
+                now.plusDays(2),
+                now.plusDays(2),
+                0,
+                null,
+                null,
+                null,
+                6,
+                1523,
+                now.minusDays(1),
+                now
+        );
+    }
+}
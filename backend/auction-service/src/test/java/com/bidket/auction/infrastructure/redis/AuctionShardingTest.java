@@ -0,0 +1,40 @@
+package com.bidket.auction.infrastructure.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AuctionSharding 테스트")
+class AuctionShardingTest {
+
+    @Test
+    @DisplayName("같은 경매 ID 는 항상 같은 샤드에 배정되고 모든 샤드가 사용된다")
+    void shardOf_IsStableAndCoversAllShards() {
+        // Given
+        AuctionSharding sharding = new AuctionSharding(16);
+        UUID auctionId = UUID.randomUUID();
+
+        // When
+        long distinctShards = IntStream.range(0, 2000)
+                .map(i -> sharding.shardOf(UUID.randomUUID()))
+                .peek(shard -> assertThat(shard).isBetween(0, 15))
+                .distinct()
+                .count();
+
+        // Then
+        assertThat(sharding.shardOf(auctionId)).isEqualTo(sharding.shardOf(auctionId));
+        assertThat(distinctShards).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("샤드 수가 0 이하이면 생성할 수 없다")
+    void create_WithInvalidShardCount_ThrowsException() {
+        assertThatThrownBy(() -> new AuctionSharding(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("샤드 수는 1 이상이어야 합니다");
+    }
+}
@@ -0,0 +1,204 @@
+package com.bidket.auction.infrastructure.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "bidket.lock.lease-ms=300")
+@DisplayName("RedisLockService 통합 테스트")
+class RedisLockServiceTest {
+
+    private static final long LEASE_MILLIS = 300L;
+
+    @Autowired
+    private RedisLockService lockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private ExecutorService executor;
+    private String lockKey;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        lockKey = "test:" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        redisTemplate.delete("lock:" + lockKey);
+        redisTemplate.delete("lock:fence:" + lockKey);
+    }
+
+    @Nested
+    @DisplayName("재진입 테스트")
+    class ReentrantTest {
+
+        @Test
+        @DisplayName("성공: 같은 스레드는 재진입하고 획득 횟수만큼 해제해야 풀린다")
+        void tryLock_Reentrant_ReleasedAfterSameCount() {
+            // Given
+            LockHandle first = lockService.tryLock(lockKey, Duration.ZERO).orElseThrow();
+            LockHandle second = lockService.tryLock(lockKey, Duration.ZERO).orElseThrow();
+
+            // Then - 재진입은 새 토큰을 발급하지 않는다
+            assertThat(second.fencingToken()).isEqualTo(first.fencingToken());
+
+            // When - 한 번만 해제
+            assertThat(second.unlock()).isTrue();
+
+            // Then - 아직 보유 중
+            assertThat(redisTemplate.hasKey("lock:" + lockKey)).isTrue();
+            assertThat(tryLockFromOtherThread(Duration.ZERO)).isFalse();
+
+            // When - 남은 한 번 해제
+            assertThat(first.unlock()).isTrue();
+
+            // Then
+            assertThat(redisTemplate.hasKey("lock:" + lockKey)).isFalse();
+            assertThat(first.unlock()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("fencing token 테스트")
+    class FencingTokenTest {
+
+        @Test
+        @DisplayName("성공: 새로 획득할 때마다 fencing token 이 증가한다")
+        void tryLock_FencingTokenIncreases() throws Exception {
+            // Given
+            long previous;
+            try (LockHandle handle = lockService.tryLock(lockKey, Duration.ZERO).orElseThrow()) {
+                previous = handle.fencingToken();
+            }
+
+            // When - 다른 스레드에서 획득
+            Long other = executor.submit(() -> {
+                try (LockHandle handle = lockService.tryLock(lockKey, Duration.ZERO).orElseThrow()) {
+                    return handle.fencingToken();
+                }
+            }).get(5, TimeUnit.SECONDS);
+
+            // When - 다시 획득
+            long next;
+            try (LockHandle handle = lockService.tryLock(lockKey, Duration.ZERO).orElseThrow()) {
+                next = handle.fencingToken();
+            }
+
+            // Then
+            assertThat(other).isGreaterThan(previous);
+            assertThat(next).isGreaterThan(other);
+        }
+    }
+
+    @Nested
+    @DisplayName("대기 테스트")
+    class WaitTest {
+
+        @Test
+        @DisplayName("성공: 대기자는 보유자가 해제하면 lease 만료 전에 깨어나 획득한다")
+        void tryLock_WaiterWakesOnRelease() throws Exception {
+            // Given - watchdog 없이 긴 lease 로 보유 (TTL 폴링으로는 대기 시간 안에 깨어나지 못한다)
+            LockHandle holder = lockService.tryLock(lockKey, Duration.ZERO, Duration.ofSeconds(30)).orElseThrow();
+            CountDownLatch waiting = new CountDownLatch(1);
+
+            Future<Long> waiter = executor.submit(() -> {
+                waiting.countDown();
+                long startedAt = System.nanoTime();
+                Optional<LockHandle> handle = lockService.tryLock(lockKey, Duration.ofSeconds(5));
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                handle.ifPresent(LockHandle::unlock);
+                return handle.isPresent() ? elapsedMillis : -1L;
+            });
+            waiting.await();
+            Thread.sleep(200);
+
+            // When
+            holder.unlock();
+
+            // Then
+            Long elapsedMillis = waiter.get(5, TimeUnit.SECONDS);
+            assertThat(elapsedMillis).isBetween(0L, 2000L);
+        }
+
+        @Test
+        @DisplayName("성공: 대기 시간이 0 이면 다른 보유자가 있을 때 즉시 실패한다")
+        void tryLock_ZeroWait_DoesNotBlock() throws Exception {
+            // Given
+            LockHandle holder = lockService.tryLock(lockKey, Duration.ZERO).orElseThrow();
+
+            // When
+            long startedAt = System.nanoTime();
+            boolean acquired = tryLockFromOtherThread(Duration.ZERO);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // Then
+            assertThat(acquired).isFalse();
+            assertThat(elapsedMillis).isLessThan(LEASE_MILLIS);
+
+            holder.unlock();
+        }
+    }
+
+    @Nested
+    @DisplayName("watchdog 테스트")
+    class WatchdogTest {
+
+        @Test
+        @DisplayName("성공: 보유 중인 락은 lease 가 지나도 watchdog 이 연장한다")
+        void tryLock_WatchdogRenewsLease() throws Exception {
+            // Given
+            LockHandle holder = lockService.tryLock(lockKey, Duration.ZERO).orElseThrow();
+
+            // When - lease 의 몇 배 동안 보유
+            Thread.sleep(LEASE_MILLIS * 4);
+
+            // Then
+            Long ttl = redisTemplate.getExpire("lock:" + lockKey, TimeUnit.MILLISECONDS);
+            assertThat(ttl).isPositive();
+            assertThat(tryLockFromOtherThread(Duration.ZERO)).isFalse();
+            assertThat(holder.unlock()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: leaseTime 을 지정하면 연장하지 않고 만료된다")
+        void tryLock_ExplicitLease_Expires() throws Exception {
+            // Given
+            LockHandle holder = lockService.tryLock(lockKey, Duration.ZERO, Duration.ofMillis(LEASE_MILLIS)).orElseThrow();
+
+            // When
+            Thread.sleep(LEASE_MILLIS * 3);
+
+            // Then
+            assertThat(redisTemplate.hasKey("lock:" + lockKey)).isFalse();
+            assertThat(holder.unlock()).isFalse();
+        }
+    }
+
+    private boolean tryLockFromOtherThread(Duration waitTime) throws Exception {
+        return executor.submit(() -> {
+            Optional<LockHandle> handle = lockService.tryLock(lockKey, waitTime);
+            handle.ifPresent(LockHandle::unlock);
+            return handle.isPresent();
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
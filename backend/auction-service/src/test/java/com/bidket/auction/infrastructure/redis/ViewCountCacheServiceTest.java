@@ -88,11 +88,7 @@ class ViewCountCacheServiceTest {
             // When
             viewCountCacheService.incrementViewCountAsync(testAuctionId);
 
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            viewCountCacheService.flushPendingViewCounts();
 
             // Then
             Integer viewCount = viewCountCacheService.getViewCount(testAuctionId, 0);
@@ -110,12 +106,7 @@ class ViewCountCacheServiceTest {
             viewCountCacheService.incrementViewCountAsync(testAuctionId);
             viewCountCacheService.incrementViewCountAsync(testAuctionId);
 
-            // 잠시 대기
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            viewCountCacheService.flushPendingViewCounts();
 
             // Then
             Integer viewCount = viewCountCacheService.getViewCount(testAuctionId, 0);
@@ -206,11 +197,7 @@ class ViewCountCacheServiceTest {
             viewCountCacheService.incrementViewCountAsync(testAuctionId);
             viewCountCacheService.incrementViewCountAsync(testAuctionId);
 
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            viewCountCacheService.flushPendingViewCounts();
 
             // When
             int syncedCount = viewCountCacheService.syncViewCountsToDatabase();
@@ -273,11 +260,7 @@ class ViewCountCacheServiceTest {
                 viewCountCacheService.incrementViewCountAsync(auction.getId());
             }
 
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            viewCountCacheService.flushPendingViewCounts();
 
             // When
             int syncedCount = viewCountCacheService.syncViewCountsToDatabase();
@@ -297,12 +280,7 @@ class ViewCountCacheServiceTest {
             // Given 
             viewCountCacheService.incrementViewCountAsync(testAuctionId);
 
-            // 잠시 대기
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+            viewCountCacheService.flushPendingViewCounts();
 
             // When
             ViewCountCacheService.CacheStats stats = viewCountCacheService.getCacheStats();
@@ -11,7 +11,9 @@ import com.bidket.queue.presentation.dto.response.QueueCreateResponse;
 import com.bidket.queue.presentation.dto.response.QueueEnterResponse;
 import com.bidket.queue.presentation.dto.response.QueueStatusResponse;
 import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -25,6 +27,18 @@ import java.util.UUID;
 public class QueueService {
     private final RedisRepository redisRepository;
     private final TokenProvider tokenProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${bidket.queue.waiting-full-retry-after-seconds:5}")
+    private int waitingFullRetryAfter;
+
+    // 근사 순번 모드: 입장 sequence 와 스케줄러가 남긴 watermark 의 차이로 순번을 계산한다
+    @Value("${bidket.queue.approximate-rank.enabled:false}")
+    private boolean approximateRankEnabled;
+
+    // 근사 순번이 이 값 이하로 가까워지면 정확한 순번(ZRANK)을 조회한다
+    @Value("${bidket.queue.approximate-rank.exact-threshold:100}")
+    private long exactRankThreshold;
 
     public Mono<QueueCreateResponse> createConfigQueue(QueueCreateRequest request) {
         String key = "queue:auction:" + request.auctionId() + ":config";
@@ -62,28 +76,40 @@ public class QueueService {
     public Mono<QueueEnterResponse> enterQueue(UUID userId, UUID auctionId) {
         String configKey = "queue:auction:" + auctionId + ":config";
         String waitingKey = "queue:auction:" + auctionId + ":waiting";
+        String sequenceKey = "queue:auction:" + auctionId + ":seq";
 
         return redisRepository.getConfig(configKey)
                 .switchIfEmpty(Mono.error(new QueueException(QueueErrorCode.CONFIG_NOT_FOUND)))
                 .flatMap(config -> {
                     config.checkOpenStatus(Instant.now());
                     log.info("사용자[{}]: 대기열 입장[{}]", userId, waitingKey);
-                    return redisRepository.addWaitingUser(waitingKey, userId);
+                    return redisRepository.addWaitingUser(waitingKey, sequenceKey, userId, config.getMaxWaiting(),
+                            config.getCloseAt().plus(1, ChronoUnit.DAYS));
                 })
-                .flatMap(isAdded -> redisRepository.getRank(waitingKey, userId))
-                .map(rank -> QueueEnterResponse.builder()
+                .flatMap(entry -> {
+                    if (entry.isRejected()) {
+                        meterRegistry.counter("bidket.queue.waiting.entries", "result", "rejected").increment();
+                        return Mono.error(new QueueException(QueueErrorCode.WAITING_QUEUE_FULL, waitingFullRetryAfter));
+                    }
+
+                    meterRegistry.counter("bidket.queue.waiting.entries", "result", "accepted").increment();
+                    return Mono.just(entry);
+                })
+                .map(entry -> QueueEnterResponse.builder()
                             .auctionId(auctionId)
                             .userId(userId)
-                            .rank(rank)
+                            .rank(entry.rank())
+                            .sequence(entry.sequence())
                             .retryAfter(3)
                             .message("대기 중")
                             .build());
     }
 
-    public Mono<QueueStatusResponse> getQueueStatus(UUID userId, UUID auctionId) {
+    public Mono<QueueStatusResponse> getQueueStatus(UUID userId, UUID auctionId, Long sequence) {
         String tokenKey = "queue:token:" + auctionId;
         String waitingKey = "queue:auction:" + auctionId + ":waiting";
         String configKey = "queue:auction:" + auctionId + ":config";
+        String activeKey = "queue:auction:" + auctionId + ":active";
 
         return redisRepository.getConfig(configKey)
                 .switchIfEmpty(Mono.error(new QueueException(QueueErrorCode.CONFIG_NOT_FOUND)))
@@ -96,7 +122,9 @@ public class QueueService {
                     if (!tokenProvider.validateToken(token, userId, auctionId))
                         return Mono.error(new QueueException(QueueErrorCode.INVALID_TOKEN));
 
-                    return Mono.just(QueueStatusResponse.builder()
+                    // 상태 조회가 active 사용자의 heartbeat 역할을 하므로 lease 를 연장한다
+                    return redisRepository.touchActiveUser(activeKey, userId, System.currentTimeMillis())
+                            .thenReturn(QueueStatusResponse.builder()
                             .auctionId(auctionId)
                             .userId(userId)
                             .status(QueueStatus.ACTIVE)
@@ -106,7 +134,7 @@ public class QueueService {
                             .message("입장이 가능합니다. 입찰 페이지로 이동합니다.")
                             .build());
                 })
-                .switchIfEmpty(redisRepository.getRank(waitingKey, userId)
+                .switchIfEmpty(getWaitingRank(auctionId, userId, sequence)
                         .map(rank -> QueueStatusResponse.builder()
                                 .auctionId(auctionId)
                                 .userId(userId)
@@ -120,4 +148,37 @@ public class QueueService {
                 );
 
     }
-}
\ No newline at end of file
+
+    public Mono<Void> leaveQueue(UUID userId, UUID auctionId) {
+        String activeKey = "queue:auction:" + auctionId + ":active";
+        String waitingKey = "queue:auction:" + auctionId + ":waiting";
+        String tokenKey = "queue:token:" + auctionId;
+
+        return redisRepository.leaveQueue(activeKey, waitingKey, tokenKey, userId)
+                .doOnNext(released -> log.info("사용자[{}]: 대기열 퇴장[{}], active 슬롯 반납: {}", userId, auctionId, released))
+                .onErrorMap(e -> new QueueException(QueueErrorCode.REDIS_CONNECTION_ERROR))
+                .then();
+    }
+
+    private Mono<Long> getWaitingRank(UUID auctionId, UUID userId, Long sequence) {
+        String waitingKey = "queue:auction:" + auctionId + ":waiting";
+        if (!approximateRankEnabled)
+            return redisRepository.getRank(waitingKey, userId);
+
+        // 클라이언트가 입장 시 받은 sequence 를 보내지 않으면 ZSCORE(O(1))로 조회한다
+        String watermarkKey = "queue:auction:" + auctionId + ":watermark";
+        Mono<Long> mySequence = sequence != null
+                ? Mono.just(sequence)
+                : redisRepository.getSequence(waitingKey, userId);
+
+        return mySequence
+                .zipWith(redisRepository.getWatermark(watermarkKey))
+                .flatMap(tuple -> {
+                    long position = tuple.getT1() - tuple.getT2() - 1;
+                    if (position <= exactRankThreshold)
+                        return redisRepository.getRank(waitingKey, userId);
+
+                    return Mono.just(position);
+                });
+    }
+}
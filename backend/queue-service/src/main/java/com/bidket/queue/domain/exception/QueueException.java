@@ -6,9 +6,16 @@ import lombok.Getter;
 @Getter
 public class QueueException extends RuntimeException {
     private final BaseErrorCode errorCode;
+    // 재시도 가능한 거절일 때 Retry-After 헤더로 내려줄 초
+    private final Integer retryAfter;
 
     public QueueException(BaseErrorCode errorCode) {
+        this(errorCode, null);
+    }
+
+    public QueueException(BaseErrorCode errorCode, Integer retryAfter) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.retryAfter = retryAfter;
     }
 }
@@ -0,0 +1,18 @@
+package com.bidket.queue.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 경매 한 건의 입장 처리 결과. expired 이면 설정이 만료되어 관리 대상에서 빼야 한다.
+ * evicted 는 유휴 시간 초과로 반납된 active 슬롯 수다.
+ */
+public record AdmissionResult(
+        boolean expired,
+        long evicted,
+        List<UUID> admitted
+) {
+    public boolean hasAdmitted() {
+        return admitted != null && !admitted.isEmpty();
+    }
+}
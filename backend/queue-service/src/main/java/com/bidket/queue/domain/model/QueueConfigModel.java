@@ -12,11 +12,15 @@ import java.util.UUID;
 
 @Builder
 public class QueueConfigModel {
+    // 용량이 지정되지 않은 설정(이전 버전 포함)에 적용하는 대기열 최대 인원
+    public static final long DEFAULT_MAX_WAITING = 100_000L;
+
     private UUID auctionId;
     @Getter
     private Long maxActive;
     @Getter
     private Integer permitsPerSec;
+    private Long maxWaiting;
     private Instant openAt;
     @Getter
     private Instant closeAt;
@@ -25,6 +29,7 @@ public class QueueConfigModel {
         return Map.of("auctionId", auctionId.toString(),
                 "maxActive", maxActive.toString(),
                 "permitsPerSec", permitsPerSec.toString(),
+                "maxWaiting", getMaxWaiting().toString(),
                 "openAt", openAt.toString(),
                 "closeAt", closeAt.toString());
     }
@@ -34,11 +39,16 @@ public class QueueConfigModel {
                 .auctionId(auctionId)
                 .maxActive(maxActive)
                 .permitsPerSec(permitsPerSec)
+                .maxWaiting(getMaxWaiting())
                 .openAt(openAt)
                 .closeAt(closeAt)
                 .build();
     }
 
+    public Long getMaxWaiting() {
+        return maxWaiting != null ? maxWaiting : DEFAULT_MAX_WAITING;
+    }
+
     public void checkOpenStatus(Instant now) {
         if(now.isBefore(openAt))
             throw new QueueException(QueueErrorCode.AUCTION_NOT_OPENED);
@@ -19,7 +19,8 @@ public enum QueueErrorCode implements BaseErrorCode {
     AUCTION_CLOSED(HttpStatus.FORBIDDEN, "이미 종료된 경매입니다."),
     AUCTION_NOT_OPENED(HttpStatus.FORBIDDEN, "경매 오픈 전입니다."),
 
-    WAITING_USER_NOT_FOUND(HttpStatus.NOT_FOUND, "대기열에 사용자 정보가 존재하지 않습니다.");
+    WAITING_USER_NOT_FOUND(HttpStatus.NOT_FOUND, "대기열에 사용자 정보가 존재하지 않습니다."),
+    WAITING_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
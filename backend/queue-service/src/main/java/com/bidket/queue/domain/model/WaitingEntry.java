@@ -0,0 +1,14 @@
+package com.bidket.queue.domain.model;
+
+/**
+ * 대기열 입장 결과. sequence 는 입장 순서대로 발급되는 번호로 대기열 score 로도 쓰인다.
+ * 용량 초과로 거절되면 rank 와 sequence 모두 -1 이다.
+ */
+public record WaitingEntry(
+        long rank,
+        long sequence
+) {
+    public boolean isRejected() {
+        return rank < 0;
+    }
+}
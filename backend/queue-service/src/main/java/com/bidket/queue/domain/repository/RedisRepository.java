@@ -1,6 +1,8 @@
 package com.bidket.queue.domain.repository;
 
+import com.bidket.queue.domain.model.AdmissionResult;
 import com.bidket.queue.domain.model.QueueConfigModel;
+import com.bidket.queue.domain.model.WaitingEntry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -30,12 +32,25 @@ public interface RedisRepository {
 
     Mono<Long> activeUserCount(String activeKey);
 
-    Mono<Boolean> addWaitingUser(String waitingKey, UUID userId);
+    Mono<WaitingEntry> addWaitingUser(String waitingKey, String sequenceKey, UUID userId, long capacity,
+                                      Instant expireAt);
+
+    Mono<Long> getSequence(String waitingKey, UUID userId);
+
+    Mono<Long> getWatermark(String watermarkKey);
 
     Mono<List<UUID>> popUserIdWaitingQueue(String waitingKey, long limit);
 
     Mono<Long> getRank(String waitingKey, UUID userId);
 
+    Mono<AdmissionResult> admitWaitingUsers(String configKey, String activeKey, String waitingKey,
+                                            String tokenKey, String watermarkKey,
+                                            long now, long idleTimeoutMillis);
+
+    Mono<Boolean> touchActiveUser(String activeKey, UUID userId, long now);
+
+    Mono<Boolean> leaveQueue(String activeKey, String waitingKey, String tokenKey, UUID userId);
+
     Mono<Boolean> saveToken(String tokenKey, Map<UUID, String> tokens);
 
     Mono<String> getToken(String tokenKey, UUID userId);
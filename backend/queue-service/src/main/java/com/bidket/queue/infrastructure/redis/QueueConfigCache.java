@@ -0,0 +1,147 @@
+package com.bidket.queue.infrastructure.redis;
+
+import com.bidket.queue.domain.model.QueueConfigModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 파싱된 QueueConfigModel 을 closeAt 까지 메모리에 보관한다. 보관 기간은 max-ttl 을 넘지 않는다.
+ * 다른 인스턴스의 변경/삭제/만료는 Redis keyspace notification 으로 받아 무효화한다.
+ * (Redis 에 notify-keyspace-events 로 최소 "Khgx" 가 설정되어 있어야 하며, 기동 시 설정을 확인한다.
+ * 설정이 빠져 있으면 다른 인스턴스의 변경은 max-ttl 이 지나야 반영된다)
+ */
+@Slf4j
+@Component
+public class QueueConfigCache {
+    private static final String CONFIG_KEYSPACE_PATTERN = "__keyspace@*__:queue:auction:*:config";
+    private static final String KEYSPACE_SEPARATOR = "__:";
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final ReactiveRedisOperations<String, Object> redisOps;
+    private final long maxTtlMillis;
+
+    private final Cache<String, QueueConfigModel> configs;
+    // 무효화될 때마다 증가한다. 로딩 중에 무효화가 끼어들면 읽어 온 설정을 캐시에 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+    private Disposable subscription;
+
+    public QueueConfigCache(ReactiveRedisMessageListenerContainer listenerContainer,
+                            ReactiveRedisOperations<String, Object> redisOps,
+                            @Value("${bidket.queue.config-cache.max-size:10000}") long maxSize,
+                            @Value("${bidket.queue.config-cache.max-ttl-ms:30000}") long maxTtlMillis) {
+        this.listenerContainer = listenerContainer;
+        this.redisOps = redisOps;
+        this.maxTtlMillis = maxTtlMillis;
+        this.configs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new CloseAtExpiry())
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        verifyKeyspaceNotifications();
+        subscription = listenerContainer.receive(new PatternTopic(CONFIG_KEYSPACE_PATTERN))
+                .map(message -> message.getChannel()
+                        .substring(message.getChannel().indexOf(KEYSPACE_SEPARATOR) + KEYSPACE_SEPARATOR.length()))
+                .subscribe(
+                        this::evict,
+                        e -> log.error("queue config keyspace 구독 에러", e)
+                );
+    }
+
+    public Mono<QueueConfigModel> get(String configKey, Supplier<Mono<QueueConfigModel>> loader) {
+        QueueConfigModel cached = configs.getIfPresent(configKey);
+        if (cached != null)
+            return Mono.just(cached);
+
+        long loadedGeneration = generation.get();
+        return loader.get()
+                .doOnNext(config -> {
+                    // 이미 종료된 경매의 설정은 보관하지 않는다
+                    if (config.getCloseAt() == null || !Instant.now().isBefore(config.getCloseAt()))
+                        return;
+                    if (generation.get() != loadedGeneration)
+                        return;
+
+                    configs.put(configKey, config);
+                    // 확인과 저장 사이에 무효화가 끼어들었으면 방금 넣은 값을 다시 지운다
+                    if (generation.get() != loadedGeneration)
+                        configs.invalidate(configKey);
+                });
+    }
+
+    public void evict(String configKey) {
+        generation.incrementAndGet();
+        if (configs.asMap().remove(configKey) != null)
+            log.debug("queue config 캐시 무효화[{}]", configKey);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null)
+            subscription.dispose();
+    }
+
+    private void verifyKeyspaceNotifications() {
+        redisOps.execute(connection -> connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS))
+                .next()
+                .map(config -> config.getProperty(NOTIFY_KEYSPACE_EVENTS, ""))
+                .subscribe(
+                        flags -> {
+                            if (!hasRequiredFlags(flags))
+                                log.error("Redis notify-keyspace-events[{}] 에 Khgx 가 없어 다른 인스턴스의 queue config 변경을 받지 못합니다. "
+                                        + "변경은 최대 {}ms 뒤에 반영됩니다", flags, maxTtlMillis);
+                        },
+                        e -> log.error("Redis notify-keyspace-events 설정 확인 실패. queue config 변경은 최대 {}ms 뒤에 반영됩니다",
+                                maxTtlMillis, e)
+                );
+    }
+
+    // A 는 g$lshzxet 의 별칭이다
+    private boolean hasRequiredFlags(String flags) {
+        if (!flags.contains("K"))
+            return false;
+        if (flags.contains("A"))
+            return true;
+
+        return flags.contains("h") && flags.contains("g") && flags.contains("x");
+    }
+
+    // closeAt 과 max-ttl 중 먼저 오는 시점에 만료된다
+    private class CloseAtExpiry implements Expiry<String, QueueConfigModel> {
+        @Override
+        public long expireAfterCreate(String key, QueueConfigModel config, long currentTime) {
+            long untilClose = Duration.between(Instant.now(), config.getCloseAt()).toMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, Math.min(untilClose, maxTtlMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, QueueConfigModel config, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, config, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, QueueConfigModel config, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.bidket.queue.infrastructure.redis;
 
+import com.bidket.queue.domain.model.AdmissionResult;
 import com.bidket.queue.domain.model.QueueConfigModel;
+import com.bidket.queue.domain.model.WaitingEntry;
 import com.bidket.queue.domain.repository.RedisRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,24 +26,95 @@ import java.util.stream.Collectors;
 public class RedisRepositoryImpl implements RedisRepository {
     private final ReactiveRedisOperations<String, Object> redisOps;
     private final ObjectMapper objectMapper;
+    private final QueueConfigCache configCache;
 
     private static final String GLOBAL_ACTIVE_AUCTIONS_KEY = "global:active_auctions";
 
+    // 유휴 시간이 지난 active 사용자 정리, 설정 조회, 빈 슬롯 계산, 대기열 pop, active 추가를 한 번에 처리한다.
+    // active ZSET 의 score 는 마지막 활동 시각(lease)이며, 만료된 사용자의 토큰도 함께 지운다.
+    // 마지막으로 입장시킨 대기 순번은 watermark 로 남겨 근사 순번 계산에 쓰고, 설정 키와 같은 시점에 만료되게 한다.
+    // 해시 필드/값과 멤버는 JSON 직렬화되어 있으므로 필드명은 따옴표를 포함하고, pop 한 멤버는 그대로 JSON 배열로 이어 붙인다.
+    private static final RedisScript<Object> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "local config = redis.call('HMGET', KEYS[1], '\"maxActive\"', '\"permitsPerSec\"') " +
+            "if not config[1] or not config[2] then return '{\"expired\":true,\"evicted\":0,\"admitted\":[]}' end " +
+            "local leaseFrom = tonumber(ARGV[1]) - tonumber(ARGV[2]) " +
+            "local idle = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', leaseFrom) " +
+            "if #idle > 0 then " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', leaseFrom) " +
+            "  for i = 1, #idle, 1000 do " +
+            "    redis.call('HDEL', KEYS[4], unpack(idle, i, math.min(i + 999, #idle))) " +
+            "  end " +
+            "end " +
+            "local maxActive = tonumber(cjson.decode(config[1])) " +
+            "local permits = tonumber(cjson.decode(config[2])) " +
+            "local limit = math.min(maxActive - redis.call('ZCARD', KEYS[2]), permits) " +
+            "if limit <= 0 then return '{\"expired\":false,\"evicted\":' .. #idle .. ',\"admitted\":[]}' end " +
+            "local popped = redis.call('ZPOPMIN', KEYS[3], limit) " +
+            "local admitted = {} " +
+            "for i = 1, #popped, 2 do " +
+            "  admitted[#admitted + 1] = popped[i] " +
+            "  redis.call('ZADD', KEYS[2], ARGV[1], popped[i]) " +
+            "end " +
+            "if #popped > 0 then " +
+            "  redis.call('SET', KEYS[5], popped[#popped]) " +
+            "  local ttl = redis.call('PTTL', KEYS[1]) " +
+            "  if ttl > 0 then redis.call('PEXPIRE', KEYS[5], ttl) end " +
+            "end " +
+            "return '{\"expired\":false,\"evicted\":' .. #idle .. ',\"admitted\":[' .. table.concat(admitted, ',') .. ']}'",
+            Object.class
+    );
+
+    // 이미 대기 중이면 기존 순번을 유지하고, 용량이 찼으면 -1 을 돌려준다.
+    // 새로 입장하면 경매별 sequence 를 발급해 score 로 사용하므로 대기열은 입장 순서대로 정렬된다.
+    // sequence 키가 없으면 대기열의 가장 큰 score 부터 이어서 발급해, 이전 방식(입장 시각 ms)으로 대기 중인 사용자보다 앞서지 않게 한다.
+    // sequence 키는 설정 키와 같은 시각(ARGV[3], epoch ms)에 만료된다
+    private static final RedisScript<Object> ADD_WAITING_SCRIPT = new DefaultRedisScript<>(
+            "local rank = redis.call('ZRANK', KEYS[1], ARGV[2]) " +
+            "if rank then " +
+            "  return '{\"rank\":' .. rank .. ',\"sequence\":' .. redis.call('ZSCORE', KEYS[1], ARGV[2]) .. '}' " +
+            "end " +
+            "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[1]) then return '{\"rank\":-1,\"sequence\":-1}' end " +
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  local last = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES') " +
+            "  if last[2] then redis.call('SET', KEYS[2], string.format('%d', math.ceil(tonumber(last[2])))) end " +
+            "end " +
+            "local sequence = redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIREAT', KEYS[2], ARGV[3]) " +
+            "redis.call('ZADD', KEYS[1], sequence, ARGV[2]) " +
+            "return '{\"rank\":' .. redis.call('ZRANK', KEYS[1], ARGV[2]) .. ',\"sequence\":' .. sequence .. '}'",
+            Object.class
+    );
+
+    // active 사용자만 lease 를 갱신한다 (ZADD XX)
+    private static final RedisScript<Long> TOUCH_ACTIVE_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('ZADD', KEYS[1], 'XX', 'CH', ARGV[1], ARGV[2])",
+            Long.class
+    );
+
+    // 대기열, active, 토큰에서 사용자를 한 번에 제거하고 active 슬롯을 반납했는지 돌려준다
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[3], ARGV[1]) " +
+            "return redis.call('ZREM', KEYS[1], ARGV[1])",
+            Long.class
+    );
+
     @Override
     public Mono<Boolean> saveConfig(String configKey, QueueConfigModel model) {
         Map<String, String> configMap = model.toMap();
 
         return redisOps.opsForHash()
-                .putAll(configKey, configMap);
+                .putAll(configKey, configMap)
+                .doOnNext(saved -> configCache.evict(configKey));
     }
 
     @Override
     public Mono<QueueConfigModel> getConfig(String configKey) {
-        return redisOps.opsForHash()
+        return configCache.get(configKey, () -> redisOps.opsForHash()
                 .entries(configKey)
                 .collectMap(Map.Entry::getKey, Map.Entry::getValue)
                 .filter(map -> !map.isEmpty())
-                .map(map -> objectMapper.convertValue(map, QueueConfigModel.class));
+                .map(map -> objectMapper.convertValue(map, QueueConfigModel.class)));
     }
 
     @Override
@@ -50,7 +125,8 @@ public class RedisRepositoryImpl implements RedisRepository {
     @Override
     public Mono<Boolean> deleteConfig(String configKey) {
         return redisOps.opsForHash()
-                .delete(configKey);
+                .delete(configKey)
+                .doOnNext(deleted -> configCache.evict(configKey));
     }
 
     @Override
@@ -105,10 +181,25 @@ public class RedisRepositoryImpl implements RedisRepository {
     }
 
     @Override
-    public Mono<Boolean> addWaitingUser(String waitingKey, UUID userId) {
-        long now = System.currentTimeMillis();
-        // TODO waiting queue 용량 제한
-        return redisOps.opsForZSet().add(waitingKey, userId, now);
+    public Mono<WaitingEntry> addWaitingUser(String waitingKey, String sequenceKey, UUID userId, long capacity,
+                                             Instant expireAt) {
+        return redisOps.execute(ADD_WAITING_SCRIPT, List.of(waitingKey, sequenceKey),
+                        List.of(capacity, userId, expireAt.toEpochMilli()))
+                .next()
+                .map(result -> objectMapper.convertValue(result, WaitingEntry.class));
+    }
+
+    @Override
+    public Mono<Long> getSequence(String waitingKey, UUID userId) {
+        return redisOps.opsForZSet().score(waitingKey, userId)
+                .map(Double::longValue);
+    }
+
+    @Override
+    public Mono<Long> getWatermark(String watermarkKey) {
+        return redisOps.opsForValue().get(watermarkKey)
+                .map(watermark -> ((Number) watermark).longValue())
+                .defaultIfEmpty(0L);
     }
 
     @Override
@@ -125,6 +216,30 @@ public class RedisRepositoryImpl implements RedisRepository {
         return redisOps.opsForZSet().rank(waitingKey, userId);
     }
 
+    @Override
+    public Mono<AdmissionResult> admitWaitingUsers(String configKey, String activeKey, String waitingKey,
+                                                   String tokenKey, String watermarkKey,
+                                                   long now, long idleTimeoutMillis) {
+        return redisOps.execute(ADMIT_SCRIPT, List.of(configKey, activeKey, waitingKey, tokenKey, watermarkKey),
+                        List.of(now, idleTimeoutMillis))
+                .next()
+                .map(result -> objectMapper.convertValue(result, AdmissionResult.class));
+    }
+
+    @Override
+    public Mono<Boolean> touchActiveUser(String activeKey, UUID userId, long now) {
+        return redisOps.execute(TOUCH_ACTIVE_SCRIPT, List.of(activeKey), List.of(now, userId))
+                .next()
+                .map(changed -> changed > 0);
+    }
+
+    @Override
+    public Mono<Boolean> leaveQueue(String activeKey, String waitingKey, String tokenKey, UUID userId) {
+        return redisOps.execute(LEAVE_SCRIPT, List.of(activeKey, waitingKey, tokenKey), List.of(userId))
+                .next()
+                .map(removed -> removed > 0);
+    }
+
     @Override
     public Mono<Boolean> saveToken(String tokenKey, Map<UUID, String> tokens) {
         return redisOps.opsForHash()
@@ -4,10 +4,10 @@ import com.bidket.queue.domain.repository.RedisRepository;
 import com.bidket.queue.global.util.jwt.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,12 +20,15 @@ public class QueueScheduler {
     private final RedisRepository redisRepository;
     private final TokenProvider tokenProvider;
 
+    // active 사용자가 이 시간 동안 상태 조회(heartbeat)가 없으면 슬롯을 반납한다
+    @Value("${bidket.queue.active-idle-timeout-ms:300000}")
+    private long activeIdleTimeoutMillis;
+
     @Scheduled(fixedDelay = 1000)
     public void entranceSchedule() {
         log.info("스케줄링 시작");
+        // 경매당 Redis 호출이 논블로킹 스크립트 한 번이므로 별도 스레드 풀 없이 동시에 처리한다
         redisRepository.getAllActiveAuctions()
-                .parallel()
-                .runOn(Schedulers.boundedElastic())
                 .flatMap(this::processAuction)
                 .subscribe(
                         null,
@@ -37,46 +40,35 @@ public class QueueScheduler {
         String configKey = "queue:auction:" + auctionId + ":config";
         String activeKey = "queue:auction:" + auctionId + ":active";
         String waitingKey = "queue:auction:" + auctionId + ":waiting";
+        String tokenKey = "queue:token:" + auctionId;
+        String watermarkKey = "queue:auction:" + auctionId + ":watermark";
 
-        return redisRepository.getConfig(configKey)
-                .flatMap(config ->
-                        redisRepository.activeUserCount(activeKey)
-                                .flatMap(currentActive -> {
-                                    long maxUser = config.getMaxActive();
-                                    long availableSlots = maxUser - currentActive;
-                                    long limit = Math.min(availableSlots, config.getPermitsPerSec());
-
-                                    if (limit <= 0)
-                                        return Mono.just(0L);
-
-                                    return redisRepository.popUserIdWaitingQueue(waitingKey, limit)
-                                            .flatMap(userIds -> {
-                                                if (userIds.isEmpty())
-                                                    return Mono.just(0L);
-
-                                                Map<UUID, String> userTokens = new HashMap<>();
-                                                userIds.forEach(userId -> {
-                                                    String token = tokenProvider.generateToken(userId, auctionId);
-                                                    userTokens.put(userId, token);
-                                                });
+        return redisRepository.admitWaitingUsers(configKey, activeKey, waitingKey, tokenKey, watermarkKey,
+                        System.currentTimeMillis(), activeIdleTimeoutMillis)
+                .flatMap(result -> {
+                    if (result.expired()) {
+                        log.warn("경매[{}] 설정 만료, 관리 목록에서 제거", auctionId);
+                        return redisRepository.removeActiveAuction(auctionId).then();
+                    }
 
-                                                log.info("경매[{}] {} 명 입장", auctionId, userIds.size());
-                                                return redisRepository.addAllActiveUser(activeKey, userIds)
-                                                        .flatMap(added -> {
-                                                            String tokenKey = "queue:token:" + auctionId;
-                                                            return redisRepository.saveToken(tokenKey, userTokens);
-                                                        });
-                                            });
+                    if (result.evicted() > 0)
+                        log.info("경매[{}] 유휴 사용자 {} 명 슬롯 반납", auctionId, result.evicted());
 
-                                })
+                    if (!result.hasAdmitted())
+                        return Mono.empty();
 
-                )
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.warn("경매[{}] 설정 만료, 관리 목록에서 제거", auctionId);
+                    Map<UUID, String> userTokens = new HashMap<>();
+                    result.admitted().forEach(userId -> {
+                        String token = tokenProvider.generateToken(userId, auctionId);
+                        userTokens.put(userId, token);
+                    });
 
-                    return redisRepository.removeActiveAuction(auctionId)
-                            .then(Mono.empty());
-                }))
-                .then();
+                    log.info("경매[{}] {} 명 입장", auctionId, userTokens.size());
+                    return redisRepository.saveToken(tokenKey, userTokens).then();
+                })
+                .onErrorResume(e -> {
+                    log.error("경매[{}] 입장 처리 실패", auctionId, e);
+                    return Mono.empty();
+                });
     }
 }
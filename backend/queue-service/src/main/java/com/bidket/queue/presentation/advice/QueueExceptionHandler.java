@@ -5,6 +5,9 @@ import com.bidket.common.presentation.handler.GlobalExceptionHandler;
 import com.bidket.common.presentation.response.ApiResponse;
 import com.bidket.queue.domain.exception.QueueException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -17,8 +20,23 @@ public class QueueExceptionHandler extends GlobalExceptionHandler {
     @ExceptionHandler(QueueException.class)
     public Mono<ResponseEntity<ApiResponse<?>>> handleQueueException(QueueException e) {
         BaseErrorCode errorCode = e.getErrorCode();
-        log.error("대기열 서비스 에러 발생: {}", e.getMessage(), e);
-        return Mono.just(ResponseEntity.status(errorCode.getStatus())
-                .body(ApiResponse.error(errorCode.getMessage())));
+        logQueueException(errorCode, e);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(errorCode.getStatus());
+        if (e.getRetryAfter() != null)
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter()));
+
+        return Mono.just(response.body(ApiResponse.error(errorCode.getMessage())));
+    }
+
+    // 대기열 만석(429) 같은 클라이언트 오류는 정상 흐름이므로 스택 트레이스 없이 남기고, 서버 오류만 ERROR 로 남긴다
+    private void logQueueException(BaseErrorCode errorCode, QueueException e) {
+        HttpStatusCode status = errorCode.getStatus();
+        if (status.is5xxServerError()) {
+            log.error("대기열 서비스 에러 발생: {}", e.getMessage(), e);
+        } else if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            log.debug("대기열 요청 거절 [{}]: {}", status.value(), e.getMessage());
+        } else {
+            log.warn("대기열 요청 실패 [{}]: {}", status.value(), e.getMessage());
+        }
     }
 }
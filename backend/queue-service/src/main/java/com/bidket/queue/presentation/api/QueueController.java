@@ -19,6 +19,8 @@ import java.util.UUID;
 @RequestMapping("/v1")
 @RequiredArgsConstructor
 public class QueueController {
+    private static final String USER_ID_HEADER = "USER-ID";
+
     private final QueueService queueService;
 
     @PostMapping("/internal/queues")
@@ -30,20 +32,23 @@ public class QueueController {
     }
 
     @PostMapping("/queues/{auctionId}")
-    public Mono<ResponseEntity<ApiResponse<QueueEnterResponse>>> enterQueue(@PathVariable UUID auctionId) {
-        // TODO userId 전달 방식 확립 이후 변경
-        // UUID userId = UUID.fromString(Objects.requireNonNull(request.headers().firstHeader("USER-ID")));
-        UUID userId = UUID.randomUUID();
+    public Mono<ResponseEntity<ApiResponse<QueueEnterResponse>>> enterQueue(@PathVariable UUID auctionId,
+                                                                            @RequestHeader(USER_ID_HEADER) UUID userId) {
         return queueService.enterQueue(userId, auctionId)
                 .map(response ->
                         ResponseEntity.ok(ApiResponse.success(response))
                 );
     }
 
+    /**
+     * active 사용자에게는 이 조회가 heartbeat 다. 클라이언트는 입장 후에도 응답의 retryAfter 간격으로
+     * 계속 호출해야 하며, bidket.queue.active-idle-timeout-ms 동안 호출이 없으면 슬롯과 토큰이 회수된다.
+     */
     @GetMapping("/queues/{auctionId}/status")
-    public Mono<ResponseEntity<ApiResponse<QueueStatusResponse>>> getQueueStats(@PathVariable UUID auctionId) {
-        UUID userId = UUID.fromString("3cd28e63-55fc-47f9-b0a7-f3ccaabb78b9");
-        return queueService.getQueueStatus(userId, auctionId)
+    public Mono<ResponseEntity<ApiResponse<QueueStatusResponse>>> getQueueStats(@PathVariable UUID auctionId,
+                                                                                @RequestHeader(USER_ID_HEADER) UUID userId,
+                                                                                @RequestParam(required = false) Long seq) {
+        return queueService.getQueueStatus(userId, auctionId, seq)
                 .map(response ->
                         ResponseEntity
                                 .ok()
@@ -51,4 +56,11 @@ public class QueueController {
                                 .body(ApiResponse.success(response))
                 );
     }
+
+    @DeleteMapping("/queues/{auctionId}")
+    public Mono<ResponseEntity<Void>> leaveQueue(@PathVariable UUID auctionId,
+                                                 @RequestHeader(USER_ID_HEADER) UUID userId) {
+        return queueService.leaveQueue(userId, auctionId)
+                .thenReturn(ResponseEntity.noContent().build());
+    }
 }
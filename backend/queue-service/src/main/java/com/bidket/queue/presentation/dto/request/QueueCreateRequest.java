@@ -2,6 +2,7 @@ package com.bidket.queue.presentation.dto.request;
 
 import com.bidket.queue.domain.model.QueueConfigModel;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 
 import java.time.Instant;
@@ -13,6 +14,7 @@ public record QueueCreateRequest(
         @NotNull UUID auctionId,
         @NotNull Long maxActive,
         @NotNull Integer permitsPerSec,
+        @Positive Long maxWaiting,
         @NotNull Instant openAt,
         @NotNull Instant closeAt
 ) {
@@ -21,6 +23,7 @@ public record QueueCreateRequest(
                 .auctionId(auctionId)
                 .maxActive(maxActive)
                 .permitsPerSec(permitsPerSec)
+                .maxWaiting(maxWaiting)
                 .openAt(openAt)
                 .closeAt(closeAt)
                 .build();
@@ -10,6 +10,7 @@ public record QueueCreateResponse(
         UUID auctionId,
         Long maxActive,
         Integer permitsPerSec,
+        Long maxWaiting,
         Instant openAt,
         Instant closeAt
 ) {
@@ -10,6 +10,7 @@ public record QueueEnterResponse(
         UUID auctionId,
         UUID userId,
         Long rank,
+        Long sequence,
         Integer retryAfter,
         String message,
         @JsonIgnore
@@ -4,27 +4,38 @@ import com.bidket.queue.application.service.QueueService;
 import com.bidket.queue.domain.exception.QueueException;
 import com.bidket.queue.domain.model.QueueConfigModel;
 import com.bidket.queue.domain.model.QueueErrorCode;
+import com.bidket.queue.domain.model.WaitingEntry;
+import com.bidket.queue.infrastructure.redis.QueueConfigCache;
 import com.bidket.queue.infrastructure.redis.RedisRepositoryImpl;
 import com.bidket.queue.presentation.dto.request.QueueCreateRequest;
 import com.bidket.queue.presentation.dto.response.QueueCreateResponse;
 import com.bidket.queue.presentation.dto.response.QueueEnterResponse;
+import com.bidket.queue.presentation.dto.response.QueueStatusResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.ReactiveHashOperations;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +52,9 @@ public class UnitTest {
     @Mock
     private ReactiveHashOperations<String, String, Object> hashOps;
 
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Test
     @DisplayName("성공: config queue 생성")
     void createQueueConfig_Success() {
@@ -141,10 +155,8 @@ public class UnitTest {
 
         when(redisRepository.getConfig(any(String.class)))
                 .thenReturn(Mono.just(queueConfig));
-        when(redisRepository.addWaitingUser(any(String.class), any()))
-                .thenReturn(Mono.just(true));
-        when(redisRepository.getRank(any(String.class), any()))
-                .thenReturn(Mono.just(100L));
+        when(redisRepository.addWaitingUser(any(String.class), any(String.class), any(), anyLong(), any(Instant.class)))
+                .thenReturn(Mono.just(new WaitingEntry(100L, 101L)));
 
         // when
         Mono<QueueEnterResponse> response = queueService.enterQueue(userId, auctionId);
@@ -158,4 +170,212 @@ public class UnitTest {
                 )
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("실패: 대기열 용량 초과 시 429 와 재시도 시간 반환")
+    void enterQueue_Fail_WaitingQueueFull() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID auctionId = UUID.randomUUID();
+        QueueConfigModel queueConfig = QueueConfigModel.builder()
+                .auctionId(auctionId)
+                .openAt(Instant.now())
+                .closeAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .permitsPerSec(5)
+                .maxActive(1000L)
+                .maxWaiting(10L)
+                .build();
+
+        when(redisRepository.getConfig(any(String.class)))
+                .thenReturn(Mono.just(queueConfig));
+        when(redisRepository.addWaitingUser(any(String.class), any(String.class), any(), anyLong(), any(Instant.class)))
+                .thenReturn(Mono.just(new WaitingEntry(-1L, -1L)));
+
+        // when
+        Mono<QueueEnterResponse> response = queueService.enterQueue(userId, auctionId);
+
+        // then
+        StepVerifier.create(response)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof QueueException &&
+                                ((QueueException) throwable).getErrorCode() == QueueErrorCode.WAITING_QUEUE_FULL &&
+                                ((QueueException) throwable).getRetryAfter() != null
+                )
+                .verify();
+        assertThat(meterRegistry.counter("bidket.queue.waiting.entries", "result", "rejected").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 근사 순번 모드에서는 sequence 와 watermark 로 순번을 계산한다")
+    void getQueueStatus_ApproximateRank() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID auctionId = UUID.randomUUID();
+        QueueConfigModel queueConfig = QueueConfigModel.builder()
+                .auctionId(auctionId)
+                .openAt(Instant.now())
+                .closeAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .permitsPerSec(5)
+                .maxActive(1000L)
+                .build();
+        ReflectionTestUtils.setField(queueService, "approximateRankEnabled", true);
+        ReflectionTestUtils.setField(queueService, "exactRankThreshold", 100L);
+
+        when(redisRepository.getConfig(any(String.class)))
+                .thenReturn(Mono.just(queueConfig));
+        when(redisRepository.getToken(any(String.class), any(UUID.class)))
+                .thenReturn(Mono.empty());
+        when(redisRepository.getWatermark(any(String.class)))
+                .thenReturn(Mono.just(1000L));
+
+        // when
+        Mono<QueueStatusResponse> response = queueService.getQueueStatus(userId, auctionId, 1501L);
+
+        // then
+        StepVerifier.create(response)
+                .expectNextMatches(result -> result.rank() == 500L)
+                .verifyComplete();
+        verify(redisRepository, never()).getRank(any(String.class), any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("성공: 근사 순번이 선두에 가까우면 정확한 순번을 조회한다")
+    void getQueueStatus_ApproximateRank_NearHead() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID auctionId = UUID.randomUUID();
+        QueueConfigModel queueConfig = QueueConfigModel.builder()
+                .auctionId(auctionId)
+                .openAt(Instant.now())
+                .closeAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .permitsPerSec(5)
+                .maxActive(1000L)
+                .build();
+        ReflectionTestUtils.setField(queueService, "approximateRankEnabled", true);
+        ReflectionTestUtils.setField(queueService, "exactRankThreshold", 100L);
+
+        when(redisRepository.getConfig(any(String.class)))
+                .thenReturn(Mono.just(queueConfig));
+        when(redisRepository.getToken(any(String.class), any(UUID.class)))
+                .thenReturn(Mono.empty());
+        when(redisRepository.getSequence(any(String.class), any(UUID.class)))
+                .thenReturn(Mono.just(1050L));
+        when(redisRepository.getWatermark(any(String.class)))
+                .thenReturn(Mono.just(1000L));
+        when(redisRepository.getRank(any(String.class), any(UUID.class)))
+                .thenReturn(Mono.just(42L));
+
+        // when
+        Mono<QueueStatusResponse> response = queueService.getQueueStatus(userId, auctionId, null);
+
+        // then
+        StepVerifier.create(response)
+                .expectNextMatches(result -> result.rank() == 42L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("성공: 대기열 퇴장 시 active 슬롯 반납")
+    void leaveQueue_Success() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID auctionId = UUID.randomUUID();
+
+        when(redisRepository.leaveQueue(any(String.class), any(String.class), any(String.class), any(UUID.class)))
+                .thenReturn(Mono.just(true));
+
+        // when
+        Mono<Void> response = queueService.leaveQueue(userId, auctionId);
+
+        // then
+        StepVerifier.create(response)
+                .verifyComplete();
+        verify(redisRepository).leaveQueue(
+                "queue:auction:" + auctionId + ":active",
+                "queue:auction:" + auctionId + ":waiting",
+                "queue:token:" + auctionId,
+                userId);
+    }
+
+    @Test
+    @DisplayName("실패: 대기열 퇴장 중 Redis 오류")
+    void leaveQueue_Fail_Redis() {
+        // given
+        when(redisRepository.leaveQueue(any(String.class), any(String.class), any(String.class), any(UUID.class)))
+                .thenReturn(Mono.error(new RuntimeException("connection refused")));
+
+        // when
+        Mono<Void> response = queueService.leaveQueue(UUID.randomUUID(), UUID.randomUUID());
+
+        // then
+        StepVerifier.create(response)
+                .expectErrorMatches(throwable ->
+                        throwable instanceof QueueException &&
+                                ((QueueException) throwable).getErrorCode() == QueueErrorCode.REDIS_CONNECTION_ERROR
+                )
+                .verify();
+    }
+
+    @Test
+    @DisplayName("성공: config 는 closeAt 전까지 캐시에서 조회되고 무효화되면 다시 읽는다")
+    void configCache_HitAndEvict() {
+        // given
+        QueueConfigCache configCache = new QueueConfigCache(null, null, 100, 30000L);
+        AtomicInteger loadCount = new AtomicInteger();
+        QueueConfigModel queueConfig = QueueConfigModel.builder()
+                .auctionId(UUID.randomUUID())
+                .openAt(Instant.now())
+                .closeAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .permitsPerSec(5)
+                .maxActive(1000L)
+                .build();
+
+        // when
+        configCache.get("configKey", () -> Mono.fromSupplier(() -> {
+            loadCount.incrementAndGet();
+            return queueConfig;
+        })).block();
+        configCache.get("configKey", () -> Mono.fromSupplier(() -> {
+            loadCount.incrementAndGet();
+            return queueConfig;
+        })).block();
+        configCache.evict("configKey");
+        configCache.get("configKey", () -> Mono.fromSupplier(() -> {
+            loadCount.incrementAndGet();
+            return queueConfig;
+        })).block();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공: config 로딩 중에 무효화되면 읽어 온 값을 캐시에 남기지 않는다")
+    void configCache_EvictDuringLoad_NotCached() {
+        // given
+        QueueConfigCache configCache = new QueueConfigCache(null, null, 100, 30000L);
+        AtomicInteger loadCount = new AtomicInteger();
+        QueueConfigModel queueConfig = QueueConfigModel.builder()
+                .auctionId(UUID.randomUUID())
+                .openAt(Instant.now())
+                .closeAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .permitsPerSec(5)
+                .maxActive(1000L)
+                .build();
+
+        // when
+        configCache.get("configKey", () -> Mono.fromSupplier(() -> {
+            loadCount.incrementAndGet();
+            configCache.evict("configKey");
+            return queueConfig;
+        })).block();
+        configCache.get("configKey", () -> Mono.fromSupplier(() -> {
+            loadCount.incrementAndGet();
+            return queueConfig;
+        })).block();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
 }